@@ -0,0 +1,86 @@
+package com.example.Benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes JSON named after the current commit, so runs from different commits can be
+ * diffed side by side. Accepts the usual JMH arguments, e.g. {@code java -jar benchmarks.jar Seeding}.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        String configured = System.getProperty("jmh.results.dir");
+        Path resultDir = configured != null ? Paths.get(configured) : defaultResultDir();
+        Files.createDirectories(resultDir);
+        Path result = resultDir.resolve(revision() + ".json");
+
+        // JMH writes its result file even when nothing ran; keep an earlier run of this commit in that case.
+        Path pending = Files.createTempFile(resultDir, "jmh-", ".json");
+        try {
+            Options options = new OptionsBuilder()
+                    .parent(commandLine)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(pending.toString())
+                    .build();
+            Collection<RunResult> results = new Runner(options).run();
+            if (results.isEmpty()) {
+                System.out.println("No benchmark ran; nothing written");
+                return;
+            }
+            Files.move(pending, result, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("JMH results written to " + result.toAbsolutePath());
+        } finally {
+            Files.deleteIfExists(pending);
+        }
+    }
+
+    // jmh-results next to benchmarks.jar (or next to target/classes when run from an IDE), whatever the working dir.
+    private static Path defaultResultDir() throws URISyntaxException {
+        Path codeSource = Paths.get(BenchmarkMain.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        return codeSource.getParent().resolve("jmh-results");
+    }
+
+    private static String revision() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            try (InputStream out = git.getInputStream()) {
+                String sha = new String(out.readAllBytes(), StandardCharsets.UTF_8).trim();
+                if (git.waitFor() == 0 && !sha.isEmpty()) {
+                    return sha;
+                }
+            }
+        } catch (IOException e) {
+            // Not a git checkout; fall back to a timestamp.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.Benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.WebDriver;
+
+import com.example.Base.DriverFactory;
+
+/**
+ * One headless Chrome kept open for a whole trial, for benchmarks that measure work inside a page.
+ */
+@State(Scope.Benchmark)
+public class BrowserState {
+
+    public WebDriver driver;
+    public String baseUrl;
+
+    @Setup(Level.Trial)
+    public void start(ServerState server) {
+        baseUrl = server.baseUrl;
+        driver = DriverFactory.createChromeDriver();
+        driver.get(baseUrl + "/index.html");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        driver.quit();
+    }
+}
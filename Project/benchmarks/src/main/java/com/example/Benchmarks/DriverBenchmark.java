@@ -0,0 +1,56 @@
+package com.example.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+import com.example.Base.DriverFactory;
+import com.example.Base.DriverPool;
+
+/**
+ * Cost of getting a ready browser on a store page: launching Chrome per test versus borrowing a pooled one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Dheadless=true", "-Ddriver.pool.size=1"})
+@State(Scope.Benchmark)
+public class DriverBenchmark {
+
+    @Benchmark
+    public void launchPerTest(ServerState server) {
+        WebDriver driver = DriverFactory.createChromeDriver();
+        try {
+            driver.get(server.baseUrl + "/index.html");
+        } finally {
+            driver.quit();
+        }
+    }
+
+    @Benchmark
+    public void borrowFromPool(ServerState server) {
+        WebDriver driver = DriverPool.getInstance().borrow();
+        try {
+            driver.get(server.baseUrl + "/index.html");
+        } finally {
+            DriverPool.getInstance().release(driver);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closePool() {
+        DriverPool.getInstance().shutdown();
+    }
+}
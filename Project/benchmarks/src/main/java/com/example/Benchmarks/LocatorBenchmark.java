@@ -0,0 +1,71 @@
+package com.example.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import com.example.Fixtures.StoreFixture;
+
+/**
+ * The per-call {@code By.cssSelector} strings CartPage builds versus a cached {@code By}, both on their own and
+ * including the findElement round trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dheadless=true")
+@State(Scope.Benchmark)
+public class LocatorBenchmark {
+
+    @Param({"neon-drift"})
+    public String gameId;
+
+    private By cachedCount;
+
+    @Setup(Level.Trial)
+    public void openCart(BrowserState browser) {
+        cachedCount = countLocator(gameId);
+        StoreFixture.forUser("bench-user")
+                .withCartOf(gameId)
+                .openAt(browser.driver, browser.baseUrl, "/cart.html");
+    }
+
+    @Benchmark
+    public By buildSelector() {
+        return countLocator(gameId);
+    }
+
+    @Benchmark
+    public By cachedSelector() {
+        return cachedCount;
+    }
+
+    @Benchmark
+    public WebElement findWithBuiltSelector(BrowserState browser) {
+        return browser.driver.findElement(countLocator(gameId));
+    }
+
+    @Benchmark
+    public WebElement findWithCachedSelector(BrowserState browser) {
+        return browser.driver.findElement(cachedCount);
+    }
+
+    // Same string CartPage.getQuantityForItem builds on every call.
+    private static By countLocator(String gameId) {
+        return By.cssSelector(".cart-item[data-id='" + gameId + "'] .count");
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.Fixtures.StoreFixture;
+import com.example.Models.CartSnapshot;
+import com.example.Pages.CartPage;
+
+/**
+ * Reading a three-line cart with CartPage's per-element getters versus one {@code snapshot()} script.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dheadless=true")
+@State(Scope.Benchmark)
+public class ScriptBatchingBenchmark {
+
+    private static final String[] GAME_IDS = {"neon-drift", "iron-legion", "void-echo"};
+
+    private CartPage cart;
+
+    @Setup(Level.Trial)
+    public void openCart(BrowserState browser) {
+        cart = new CartPage(browser.driver);
+        StoreFixture.forUser("bench-user")
+                .withCartOf(GAME_IDS)
+                .openAt(browser.driver, browser.baseUrl, "/cart.html");
+    }
+
+    @Benchmark
+    public void perElementCalls(Blackhole bh) {
+        bh.consume(cart.getCartItemsCount());
+        for (String gameId : GAME_IDS) {
+            bh.consume(cart.isCartItemPresent(gameId));
+            bh.consume(cart.getQuantityForItem(gameId));
+        }
+        bh.consume(cart.getGrandTotalText());
+        bh.consume(cart.isCartFooterDisplayed());
+        bh.consume(cart.isEmptyCartMessageDisplayed());
+    }
+
+    @Benchmark
+    public CartSnapshot batchedSnapshot() {
+        return cart.snapshot();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.Benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.JavascriptExecutor;
+
+import com.example.Fixtures.StoreFixture;
+import com.example.Pages.CartPage;
+import com.example.Pages.OrdersPage;
+
+/**
+ * Ways of putting a signed-in user with a two-game cart into localStorage, before the page under test loads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dheadless=true")
+@State(Scope.Benchmark)
+public class SeedingBenchmark {
+
+    private static final String USER_ID = "bench-user";
+    private static final String[] GAME_IDS = {"neon-drift", "iron-legion"};
+    private static final String CART_SCRIPT =
+            "const now = new Date().toISOString();"
+                    + "localStorage.setItem('gs_cart_v1_user_' + arguments[0],"
+                    + "  JSON.stringify(arguments[1].map(id => ({gameId: id, qty: 1, addedAt: now}))));";
+
+    private CartPage cart;
+    private OrdersPage orders;
+
+    @Setup(Level.Trial)
+    public void init(BrowserState browser) {
+        cart = new CartPage(browser.driver);
+        orders = new OrdersPage(browser.driver);
+    }
+
+    // Seeding through the UI, as the tests did before StoreFixture: one navigation and click per game.
+    @Benchmark
+    public void clickThroughGamePages(BrowserState browser) {
+        cart.setLoggedInUser(USER_ID);
+        cart.clearCartForUser(USER_ID);
+        for (String gameId : GAME_IDS) {
+            cart.addGameToCartFromGamePage(browser.baseUrl, gameId);
+        }
+    }
+
+    // One executeScript per key: the page objects' helpers, plus the same two-game cart the fixture writes.
+    @Benchmark
+    public void scriptPerKey(BrowserState browser) {
+        cart.setLoggedInUser(USER_ID);
+        ((JavascriptExecutor) browser.driver).executeScript(CART_SCRIPT, USER_ID, List.of(GAME_IDS));
+        orders.clearOrdersForUser(USER_ID);
+        orders.clearLastSuccessForUser(USER_ID);
+    }
+
+    @Benchmark
+    public void fixtureSingleScript(BrowserState browser) {
+        StoreFixture.forUser(USER_ID)
+                .withCartOf(GAME_IDS)
+                .withOrders()
+                .withoutLastSuccess()
+                .apply(browser.driver);
+    }
+}
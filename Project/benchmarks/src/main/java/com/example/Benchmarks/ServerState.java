@@ -0,0 +1,29 @@
+package com.example.Benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.example.Server.StaticFileServer;
+
+/**
+ * The store served by the embedded {@link StaticFileServer}, or by {@code -Dbase.url} if given.
+ */
+@State(Scope.Benchmark)
+public class ServerState {
+
+    public String baseUrl;
+
+    @Setup(Level.Trial)
+    public void start() {
+        StaticFileServer.startForSuite();
+        baseUrl = System.getProperty("base.url");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        StaticFileServer.stopForSuite();
+    }
+}
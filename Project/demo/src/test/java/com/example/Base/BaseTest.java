@@ -1,48 +1,93 @@
 package com.example.Base;
 
-import java.time.Duration;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.lang.reflect.Method;
 
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+
+import com.example.Metrics.MemoryProfiler;
+import com.example.Metrics.PageTimings;
+import com.example.Metrics.StepTimings;
+import com.example.Server.StaticFileServer;
+import com.example.Support.ActionRetries;
+import com.example.Support.ElementActions;
+import com.example.Support.WaitEngine;
 
 public class BaseTest {
 
-    protected WebDriver driver;
-    private static final String BASE_URL = System.getProperty("base.url", "http://127.0.0.1:5501");
+    // Resolves to the calling thread's session, so it is safe under parallel="methods".
+    protected final WebDriver driver = DriverManager.current();
+    protected final WaitEngine waits = new WaitEngine(driver);
+    protected final ElementActions actions = new ElementActions(driver, waits);
 
-    @BeforeMethod
-    public void setup() {
-        // Silence known CDP compatibility warnings when Chrome version moves ahead of Selenium.
-        Logger.getLogger("org.openqa.selenium.devtools.CdpVersionFinder").setLevel(Level.SEVERE);
-        Logger.getLogger("org.openqa.selenium.chromium.ChromiumDriver").setLevel(Level.SEVERE);
+    // Starts the embedded server unless -Dbase.url points at an external one.
+    @BeforeSuite(alwaysRun = true)
+    public void startStaticServer() {
+        StaticFileServer.startForSuite();
+    }
 
-        ChromeOptions options = new ChromeOptions();
-        if ("true".equalsIgnoreCase(System.getenv("CI"))) {
-            options.addArguments("--headless=new", "--no-sandbox", "--disable-dev-shm-usage", "--window-size=1920,1080");
-        }
+    @AfterSuite(alwaysRun = true)
+    public void stopStaticServer() {
+        StaticFileServer.stopForSuite();
+    }
 
-        driver = new ChromeDriver(options);
+    @BeforeMethod(alwaysRun = true)
+    public void setup(Method testMethod) {
+        long start = System.nanoTime();
+        String testName = getClass().getSimpleName() + "." + testMethod.getName();
+        StepTimings.begin(testName);
+        ActionRetries.begin(testName);
+        WebDriver session = acquireSession(testMethod);
+        DriverManager.setDriver(session, StepTimings.decorate(session));
 
-        driver.manage().window().maximize();
-        driver.manage().timeouts()
-                .implicitlyWait(Duration.ofSeconds(10));
+        long navigateStart = System.nanoTime();
+        openStartPage();
+        long end = System.nanoTime();
+        SetupTimings.recordSetup(end - start, end - navigateStart);
+        MemoryProfiler.begin(getClass().getSimpleName(), testMethod.getName(), session);
+    }
 
-        driver.get(BASE_URL + getStartPath());
+    // A session from the active driver lifecycle, instrumented for this test.
+    protected WebDriver acquireSession(Method testMethod) {
+        WebDriver session = DriverSessions.acquire(getClass());
+        PageTimings.install(session);
+        TimeWarp.install(session);
+        NetworkPolicies.apply(session, NetworkPolicies.resolve(getClass(), testMethod));
+        return session;
+    }
 
-        
+    // Runs on the test thread once the session is bound to it.
+    protected void openStartPage() {
+        driver.get(baseUrl() + getStartPath());
+    }
+
+    protected void releaseSession(WebDriver session) {
+        DriverSessions.release(session);
+    }
+
+    protected static String baseUrl() {
+        return StaticFileServer.suiteBaseUrl();
     }
 
     protected String getStartPath() {
         return "/";
     }
 
-    @AfterMethod
+    @AfterMethod(alwaysRun = true)
     public void tearDown() {
-        driver.quit();
+        WebDriver session = DriverManager.unload();
+        if (session != null) {
+            MemoryProfiler.end(session);
+            releaseSession(session);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void closeClassSession() {
+        DriverSessions.closeClass(getClass());
     }
 }
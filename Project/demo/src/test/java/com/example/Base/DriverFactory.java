@@ -0,0 +1,61 @@
+package com.example.Base;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+
+import com.example.Metrics.MemoryProfiler;
+
+public final class DriverFactory {
+
+    private static final boolean HEADLESS = Boolean.getBoolean("headless")
+            || "true".equalsIgnoreCase(System.getenv("CI"));
+
+    private DriverFactory() {
+    }
+
+    public static ChromeOptions chromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        // Lets FailureArtifacts read the browser console of a failed test.
+        options.setCapability("goog:loggingPrefs", Map.of(LogType.BROWSER, "ALL"));
+        if (MemoryProfiler.isEnabled()) {
+            // Unrounded performance.memory figures for the profiler.
+            options.addArguments("--enable-precise-memory-info");
+        }
+        if (HEADLESS) {
+            options.addArguments("--headless=new", "--no-sandbox", "--disable-dev-shm-usage", "--window-size=1920,1080");
+        }
+        return options;
+    }
+
+    public static WebDriver createChromeDriver() {
+        // Silence known CDP compatibility warnings when Chrome version moves ahead of Selenium.
+        Logger.getLogger("org.openqa.selenium.devtools.CdpVersionFinder").setLevel(Level.SEVERE);
+        Logger.getLogger("org.openqa.selenium.chromium.ChromiumDriver").setLevel(Level.SEVERE);
+
+        long start = System.nanoTime();
+        WebDriver driver = new ChromeDriver(chromeOptions());
+        driver.manage().window().maximize();
+        // Implicit waits stay off: mixed with explicit waits they multiply timeouts. Use WaitEngine instead.
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        SetupTimings.recordLaunch(System.nanoTime() - start);
+        return driver;
+    }
+
+    // A chromedriver session on an already running Chrome; quitting it leaves the browser open.
+    public static WebDriver attachChromeDriver(String debuggerAddress) {
+        long start = System.nanoTime();
+        ChromeOptions options = new ChromeOptions();
+        options.setExperimentalOption("debuggerAddress", debuggerAddress);
+        WebDriver driver = new ChromeDriver(options);
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        SetupTimings.recordLaunch(System.nanoTime() - start);
+        return driver;
+    }
+}
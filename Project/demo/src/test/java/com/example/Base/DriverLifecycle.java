@@ -0,0 +1,30 @@
+package com.example.Base;
+
+import java.util.Locale;
+
+/**
+ * How long a Chrome session lives, selected with {@code -Ddriver.lifecycle}.
+ */
+public enum DriverLifecycle {
+
+    // New Chrome for every test, quit afterwards. Strongest isolation, slowest.
+    METHOD,
+    // Sessions borrowed from the bounded DriverPool and wiped on return.
+    POOL,
+    // One Chrome per test class, wiped between methods. Use with serial or parallel="classes" runs.
+    CLASS,
+    // One Chrome per worker thread for the whole suite, wiped between methods.
+    THREAD,
+    // One shared Chrome process; each test gets its own CDP browser context in it.
+    CONTEXT;
+
+    public static DriverLifecycle fromSystemProperty() {
+        String value = System.getProperty("driver.lifecycle", "pool").trim();
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown driver.lifecycle '" + value
+                    + "', expected one of method, pool, class, thread, context", e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.Base;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.interactions.Interactive;
+
+/**
+ * Binds one WebDriver to each TestNG worker thread.
+ *
+ * <p>{@link #current()} returns a proxy that resolves the calling thread's driver on every call, so page objects
+ * and waits created from it stay correct when a single test instance runs methods on several threads.
+ */
+public final class DriverManager {
+
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    // The undecorated session behind DRIVER, which is what pools and lifecycles hand out and take back.
+    private static final ThreadLocal<WebDriver> SESSION = new ThreadLocal<>();
+
+    private static final WebDriver CURRENT = (WebDriver) Proxy.newProxyInstance(
+            DriverManager.class.getClassLoader(),
+            new Class<?>[] {WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class,
+                    HasCapabilities.class, Interactive.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        WebDriver bound = DRIVER.get();
+                        return "ThreadBoundDriver(" + (bound == null ? "unbound" : bound) + ")";
+                    default:
+                        try {
+                            return method.invoke(getDriver(), args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                }
+            });
+
+    private DriverManager() {
+    }
+
+    public static WebDriver current() {
+        return CURRENT;
+    }
+
+    public static WebDriver getDriver() {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) {
+            throw new IllegalStateException("No WebDriver bound to thread " + Thread.currentThread().getName());
+        }
+        return driver;
+    }
+
+    public static boolean hasDriver() {
+        return DRIVER.get() != null;
+    }
+
+    public static void setDriver(WebDriver driver) {
+        setDriver(driver, driver);
+    }
+
+    public static void setDriver(WebDriver session, WebDriver decorated) {
+        SESSION.set(session);
+        DRIVER.set(decorated);
+    }
+
+    public static WebDriver getSession() {
+        WebDriver session = SESSION.get();
+        if (session == null) {
+            throw new IllegalStateException("No WebDriver bound to thread " + Thread.currentThread().getName());
+        }
+        return session;
+    }
+
+    // Unbinds the thread and returns the undecorated session.
+    public static WebDriver unload() {
+        WebDriver session = SESSION.get();
+        SESSION.remove();
+        DRIVER.remove();
+        return session;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.Base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import com.example.Support.HarnessThreads;
+
+/**
+ * Bounded pool of warm Chrome sessions shared by all test threads.
+ *
+ * <p>At most {@code driver.pool.size} sessions exist at once; borrowers block until one is free. Sessions are
+ * wiped on release so the next borrower starts with empty storage and no {@code gs_session_v1}.
+ */
+public final class DriverPool {
+
+    private static final Logger LOG = Logger.getLogger(DriverPool.class.getName());
+
+    private static final int POOL_SIZE = Integer.getInteger("driver.pool.size",
+            Integer.getInteger("testng.thread.count", 1));
+    private static final long BORROW_TIMEOUT_SECONDS = Long.getLong("driver.pool.borrow.timeout", 120);
+
+    private static final DriverPool INSTANCE = new DriverPool(POOL_SIZE);
+
+    private final int size;
+    private final Semaphore permits;
+    private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    private final Set<WebDriver> sessions = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    DriverPool(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("driver.pool.size must be at least 1 but was " + size);
+        }
+        this.size = size;
+        this.permits = new Semaphore(size, true);
+    }
+
+    public static DriverPool getInstance() {
+        return INSTANCE;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public WebDriver borrow() {
+        if (closed) {
+            throw new IllegalStateException("Driver pool has been shut down");
+        }
+        try {
+            if (!permits.tryAcquire(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out after " + BORROW_TIMEOUT_SECONDS
+                        + "s waiting for one of " + size + " pooled drivers");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled driver", e);
+        }
+
+        WebDriver driver = idle.poll();
+        if (driver != null) {
+            return driver;
+        }
+        try {
+            driver = DriverFactory.createChromeDriver();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        sessions.add(driver);
+        return driver;
+    }
+
+    public void release(WebDriver driver) {
+        try {
+            if (closed || !reset(driver)) {
+                discard(driver);
+            } else {
+                idle.offer(driver);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    // Starts sessions up front so the first wave of tests does not pay the Chrome launch cost serially.
+    public void warmUp() {
+        int missing = size - sessions.size();
+        if (missing <= 0) {
+            return;
+        }
+        ExecutorService launcher = HarnessThreads.newExecutor("driver-pool-warmup", missing);
+        try {
+            List<Future<WebDriver>> launches = new ArrayList<>();
+            for (int i = 0; i < missing; i++) {
+                launches.add(launcher.submit(DriverFactory::createChromeDriver));
+            }
+            for (Future<WebDriver> launch : launches) {
+                try {
+                    WebDriver driver = launch.get();
+                    sessions.add(driver);
+                    idle.offer(driver);
+                } catch (Exception e) {
+                    LOG.log(Level.WARNING, "Could not pre-start pooled driver", e);
+                }
+            }
+        } finally {
+            launcher.shutdown();
+        }
+    }
+
+    public void shutdown() {
+        closed = true;
+        // quit() is a blocking round trip per session; close them side by side.
+        ExecutorService closer = HarnessThreads.newExecutor("driver-pool-shutdown", sessions.size());
+        try {
+            for (WebDriver driver : sessions) {
+                closer.execute(() -> discard(driver));
+            }
+        } finally {
+            closer.shutdown();
+        }
+        try {
+            closer.awaitTermination(BORROW_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        idle.clear();
+    }
+
+    // Also leaves the app, which cancels any pending redirects or timers before the next test borrows it.
+    private boolean reset(WebDriver driver) {
+        return SessionReset.clear(driver);
+    }
+
+    private void discard(WebDriver driver) {
+        sessions.remove(driver);
+        try {
+            driver.quit();
+        } catch (WebDriverException ignored) {
+            // Session is already gone.
+        }
+    }
+}
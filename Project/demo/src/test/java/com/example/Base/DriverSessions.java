@@ -0,0 +1,106 @@
+package com.example.Base;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Hands out Chrome sessions to {@link BaseTest} according to the active {@link DriverLifecycle}.
+ */
+public final class DriverSessions {
+
+    private static final DriverLifecycle LIFECYCLE = DriverLifecycle.fromSystemProperty();
+
+    private static final Map<Class<?>, WebDriver> CLASS_DRIVERS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<WebDriver> THREAD_DRIVER = new ThreadLocal<>();
+    private static final Set<WebDriver> THREAD_DRIVERS = ConcurrentHashMap.newKeySet();
+
+    private DriverSessions() {
+    }
+
+    public static DriverLifecycle lifecycle() {
+        return LIFECYCLE;
+    }
+
+    public static WebDriver acquire(Class<?> testClass) {
+        switch (LIFECYCLE) {
+            case METHOD:
+                return DriverFactory.createChromeDriver();
+            case POOL:
+                return DriverPool.getInstance().borrow();
+            case CLASS:
+                return CLASS_DRIVERS.compute(testClass, (type, existing) -> reuseOrLaunch(existing));
+            case THREAD:
+                WebDriver current = THREAD_DRIVER.get();
+                WebDriver driver = reuseOrLaunch(current);
+                if (driver != current) {
+                    if (current != null) {
+                        THREAD_DRIVERS.remove(current);
+                    }
+                    THREAD_DRIVER.set(driver);
+                    THREAD_DRIVERS.add(driver);
+                }
+                return driver;
+            case CONTEXT:
+                return SharedBrowser.getInstance().openContext();
+            default:
+                throw new IllegalStateException("Unhandled lifecycle " + LIFECYCLE);
+        }
+    }
+
+    public static void release(WebDriver driver) {
+        switch (LIFECYCLE) {
+            case METHOD:
+                quit(driver);
+                break;
+            case POOL:
+                DriverPool.getInstance().release(driver);
+                break;
+            case CONTEXT:
+                SharedBrowser.getInstance().closeContext(driver);
+                break;
+            default:
+                // Class and thread sessions stay open and are wiped on the next acquire.
+                break;
+        }
+    }
+
+    public static void closeClass(Class<?> testClass) {
+        if (LIFECYCLE == DriverLifecycle.CLASS) {
+            WebDriver driver = CLASS_DRIVERS.remove(testClass);
+            if (driver != null) {
+                quit(driver);
+            }
+        }
+    }
+
+    public static void shutdown() {
+        DriverPool.getInstance().shutdown();
+        CLASS_DRIVERS.values().forEach(DriverSessions::quit);
+        CLASS_DRIVERS.clear();
+        THREAD_DRIVERS.forEach(DriverSessions::quit);
+        THREAD_DRIVERS.clear();
+        SharedBrowser.getInstance().shutdown();
+    }
+
+    private static WebDriver reuseOrLaunch(WebDriver existing) {
+        if (existing != null) {
+            if (SessionReset.clear(existing)) {
+                return existing;
+            }
+            quit(existing);
+        }
+        return DriverFactory.createChromeDriver();
+    }
+
+    private static void quit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException ignored) {
+            // Session is already gone.
+        }
+    }
+}
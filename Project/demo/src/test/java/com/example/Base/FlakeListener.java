@@ -0,0 +1,82 @@
+package com.example.Base;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+import org.testng.annotations.ITestAnnotation;
+
+import com.example.Support.ActionRetries;
+
+import io.qameta.allure.Allure;
+
+/**
+ * Wires {@link RetryAnalyzer} and {@link FlakeTracker} into the suite.
+ *
+ * <p>Every test gets the retry analyzer unless it declares its own. Tests the tracker has quarantined join the
+ * {@value #QUARANTINE_GROUP} group and still run, but a failure is reported as a skip with the original error
+ * attached, so known flakes cannot fail the build. Data-provider rows are quarantined one by one. Element-action
+ * retries of each test are attached to Allure.
+ */
+public class FlakeListener implements IAnnotationTransformer, IInvokedMethodListener, ITestListener {
+
+    public static final String QUARANTINE_GROUP = "quarantine";
+    public static final String QUARANTINED_ATTRIBUTE = "flake.quarantined";
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (testMethod == null) {
+            return;
+        }
+        Class<?> analyzer = annotation.getRetryAnalyzerClass();
+        if (analyzer == null || analyzer.getSimpleName().equals("DisabledRetryAnalyzer")) {
+            annotation.setRetryAnalyzer(RetryAnalyzer.class);
+        }
+        if (FlakeTracker.hasQuarantined(FlakeTracker.methodId(testMethod.getDeclaringClass(), testMethod.getName()))) {
+            String[] groups = Arrays.copyOf(annotation.getGroups(), annotation.getGroups().length + 1);
+            groups[groups.length - 1] = QUARANTINE_GROUP;
+            annotation.setGroups(groups);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        String retries = ActionRetries.finish();
+        if (retries != null) {
+            Allure.addAttachment("Element action retries", "text/csv", retries, ".csv");
+        }
+        if (testResult.getStatus() == ITestResult.FAILURE && FlakeTracker.isQuarantined(FlakeTracker.id(testResult))) {
+            testResult.setAttribute(QUARANTINED_ATTRIBUTE, Boolean.TRUE);
+            testResult.setStatus(ITestResult.SKIP);
+            testResult.setThrowable(new SkipException("Quarantined flaky test failed: "
+                    + testResult.getThrowable(), testResult.getThrowable()));
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        FlakeTracker.passed(FlakeTracker.id(result));
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        FlakeTracker.failed(FlakeTracker.id(result));
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (Boolean.TRUE.equals(result.getAttribute(QUARANTINED_ATTRIBUTE))) {
+            FlakeTracker.failed(FlakeTracker.id(result));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.Base;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.testng.ITestResult;
+
+/**
+ * Outcome history per test across runs, used to quarantine flaky tests.
+ *
+ * <p>Each run appends one letter per test to {@code -Dflake.history.file} (default
+ * {@code target/flake-history.properties}; CI keeps it in the Actions cache): {@code P} passed first time, {@code F}
+ * passed only after a retry, {@code X} failed every attempt. Each data-provider row has its own history. Only the
+ * last {@code flake.window} (10) runs are kept. A test with at least {@code flake.quarantine.threshold} (3) {@code F}s
+ * in its window is quarantined for the next run and leaves quarantine once older flakes age out of the window.
+ */
+public final class FlakeTracker {
+
+    private static final Logger LOG = Logger.getLogger(FlakeTracker.class.getName());
+
+    private static final Path HISTORY_FILE = Paths.get(System.getProperty("flake.history.file",
+            "target/flake-history.properties"));
+    private static final int WINDOW = Integer.getInteger("flake.window", 10);
+    private static final int THRESHOLD = Integer.getInteger("flake.quarantine.threshold", 3);
+
+    private static final Map<String, String> HISTORY = load();
+    private static final Set<String> QUARANTINED = quarantined(HISTORY);
+
+    private static final Map<String, Character> OUTCOMES = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> RETRIES = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> LOST_MILLIS = new ConcurrentHashMap<>();
+
+    private FlakeTracker() {
+    }
+
+    // Data-provider rows are tracked one by one, as Class.method[hash of the row's arguments], stable across runs.
+    public static String id(ITestResult result) {
+        String method = methodId(result.getTestClass().getRealClass(), result.getMethod().getMethodName());
+        Object[] parameters = result.getParameters();
+        if (parameters.length > 0) {
+            return method + String.format("[%08x]", Arrays.deepToString(parameters).hashCode());
+        }
+        return method;
+    }
+
+    public static String methodId(Class<?> testClass, String methodName) {
+        return testClass.getSimpleName() + "." + methodName;
+    }
+
+    public static boolean isQuarantined(String testId) {
+        return QUARANTINED.contains(testId);
+    }
+
+    // True when the method itself or any of its data-provider rows is quarantined.
+    public static boolean hasQuarantined(String methodId) {
+        return QUARANTINED.contains(methodId) || QUARANTINED.stream().anyMatch(id -> id.startsWith(methodId + "["));
+    }
+
+    static void retried(String testId, long lostMillis) {
+        RETRIES.computeIfAbsent(testId, k -> new LongAdder()).increment();
+        LOST_MILLIS.computeIfAbsent(testId, k -> new LongAdder()).add(lostMillis);
+    }
+
+    static void passed(String testId) {
+        record(testId, RETRIES.containsKey(testId) ? 'F' : 'P');
+    }
+
+    static void failed(String testId) {
+        record(testId, 'X');
+    }
+
+    // A test invoked more than once in a run keeps its worst outcome: X over F over P.
+    private static void record(String testId, char outcome) {
+        OUTCOMES.merge(testId, outcome, (a, b) -> "PFX".indexOf(a) >= "PFX".indexOf(b) ? a : b);
+    }
+
+    // Appends this run to the history and writes flaky-tests.csv with retries and time lost per test.
+    static void save(Path report) {
+        Map<String, String> updated = new TreeMap<>(HISTORY);
+        OUTCOMES.forEach((test, outcome) -> {
+            String history = updated.getOrDefault(test, "") + outcome;
+            updated.put(test, history.substring(Math.max(0, history.length() - WINDOW)));
+        });
+
+        Properties properties = new Properties();
+        properties.putAll(updated);
+        try {
+            Files.createDirectories(HISTORY_FILE.toAbsolutePath().getParent());
+            try (Writer out = Files.newBufferedWriter(HISTORY_FILE, StandardCharsets.UTF_8)) {
+                properties.store(out, "Outcome per run, oldest first: P pass, F pass after retry, X fail");
+            }
+
+            Set<String> tests = new TreeSet<>(RETRIES.keySet());
+            tests.addAll(QUARANTINED);
+            if (!tests.isEmpty()) {
+                Files.createDirectories(report.getParent());
+                try (Writer out = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+                    out.write("test,retries,lost_ms,history,quarantined,quarantined_next_run\n");
+                    Set<String> next = quarantined(updated);
+                    for (String test : tests) {
+                        out.write(String.format("%s,%d,%d,%s,%b,%b%n", test,
+                                RETRIES.getOrDefault(test, new LongAdder()).sum(),
+                                LOST_MILLIS.getOrDefault(test, new LongAdder()).sum(),
+                                updated.getOrDefault(test, ""), QUARANTINED.contains(test), next.contains(test)));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Could not write flake history", e);
+        }
+        if (!QUARANTINED.isEmpty()) {
+            LOG.info("Quarantined flaky tests (failures reported as skipped): " + QUARANTINED);
+        }
+    }
+
+    private static Map<String, String> load() {
+        Map<String, String> history = new TreeMap<>();
+        if (Files.isRegularFile(HISTORY_FILE)) {
+            Properties properties = new Properties();
+            try (Reader in = Files.newBufferedReader(HISTORY_FILE, StandardCharsets.UTF_8)) {
+                properties.load(in);
+            } catch (IOException e) {
+                LOG.log(Level.WARNING, "Could not read flake history " + HISTORY_FILE, e);
+            }
+            properties.forEach((test, outcomes) -> history.put(test.toString(), outcomes.toString()));
+        }
+        return history;
+    }
+
+    private static Set<String> quarantined(Map<String, String> history) {
+        Set<String> quarantined = new TreeSet<>();
+        history.forEach((test, outcomes) -> {
+            if (outcomes.chars().filter(c -> c == 'F').count() >= THRESHOLD) {
+                quarantined.add(test);
+            }
+        });
+        return quarantined;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.Base;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlSuite;
+
+import com.example.Metrics.MemoryProfiler;
+import com.example.Metrics.PageTimings;
+import com.example.Metrics.StepTimings;
+import com.example.Reporting.FailureArtifacts;
+import com.example.Support.ActionRetries;
+import com.example.Support.WaitStats;
+
+/**
+ * Switches the suite to parallel execution from the command line, e.g.
+ * {@code mvn test -Dtestng.parallel=methods -Dtestng.thread.count=4} (parallel data providers use the same thread
+ * count unless {@code -Dtestng.dataprovider.thread.count} is given), closes all browser sessions at the end and
+ * reports how much setup time the active driver lifecycle saved, where explicit waits spent their time and how
+ * long each WebDriver step and page load took per test. Failure artifacts still being encoded are flushed
+ * first, and the run's outcomes are added to the flake history. With {@code -Dmemory.profile=true} the per-test
+ * memory profile is written as well.
+ */
+public class HarnessSuiteListener implements IAlterSuiteListener, ISuiteListener {
+
+    private static final Logger LOG = Logger.getLogger(HarnessSuiteListener.class.getName());
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String parallel = System.getProperty("testng.parallel");
+        Integer threadCount = Integer.getInteger("testng.thread.count");
+        Integer dataProviderThreads = Integer.getInteger("testng.dataprovider.thread.count", threadCount);
+
+        for (XmlSuite suite : suites) {
+            if (parallel != null && !parallel.isBlank()) {
+                suite.setParallel(XmlSuite.ParallelMode.getValidParallel(parallel.trim()));
+            }
+            if (threadCount != null) {
+                suite.setThreadCount(threadCount);
+            }
+            if (dataProviderThreads != null) {
+                suite.setDataProviderThreadCount(dataProviderThreads);
+            }
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (DriverSessions.lifecycle() == DriverLifecycle.POOL && Boolean.getBoolean("driver.pool.warmup")) {
+            DriverPool.getInstance().warmUp();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        FailureArtifacts.awaitPending(60, TimeUnit.SECONDS);
+        DriverSessions.shutdown();
+        SetupTimings.report(DriverSessions.lifecycle());
+        String reportDir = System.getProperty("harness.report.dir", "target");
+        try {
+            WaitStats.writeCsv(Paths.get(reportDir, "wait-timings.csv"));
+            StepTimings.writeCsv(Paths.get(reportDir, "step-timings.csv"));
+            ActionRetries.writeCsv(Paths.get(reportDir, "element-retries.csv"));
+            PageTimings.writeCsv(Paths.get(reportDir, "page-timings.csv"),
+                    Paths.get(reportDir, "page-timings-summary.csv"));
+            MemoryProfiler.writeReports(Paths.get(reportDir, "memory-profile.jfr"),
+                    Paths.get(reportDir, "memory-profile.csv"), Paths.get(reportDir, "memory-profile-summary.csv"));
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Could not write timing reports", e);
+        }
+        FlakeTracker.save(Paths.get(reportDir, "flaky-tests.csv"));
+    }
+}
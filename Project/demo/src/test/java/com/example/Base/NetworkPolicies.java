@@ -0,0 +1,60 @@
+package com.example.Base;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * Applies {@link NetworkPolicy} to a session and undoes it when the next test on a reused session has none.
+ */
+final class NetworkPolicies {
+
+    // Session -> tab that still carries a non-default policy.
+    private static final Map<WebDriver, String> SHAPED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private NetworkPolicies() {
+    }
+
+    static NetworkPolicy resolve(Class<?> testClass, Method testMethod) {
+        NetworkPolicy policy = testMethod.getAnnotation(NetworkPolicy.class);
+        return policy != null ? policy : testClass.getAnnotation(NetworkPolicy.class);
+    }
+
+    static void apply(WebDriver session, NetworkPolicy policy) {
+        if (!(session instanceof HasCdp)) {
+            return;
+        }
+        HasCdp cdp = (HasCdp) session;
+        if (policy == null) {
+            String handle = SHAPED.remove(session);
+            if (handle != null && handle.equals(session.getWindowHandle())) {
+                shape(cdp, List.of(), 0, true);
+            }
+            return;
+        }
+
+        List<String> blocked = new ArrayList<>();
+        for (NetworkPolicy.Asset asset : policy.block()) {
+            blocked.addAll(asset.patterns());
+        }
+        shape(cdp, blocked, policy.latencyMs(), policy.browserCache());
+        SHAPED.put(session, session.getWindowHandle());
+    }
+
+    private static void shape(HasCdp cdp, List<String> blocked, long latencyMs, boolean browserCache) {
+        cdp.executeCdpCommand("Network.enable", Map.of());
+        cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", blocked));
+        cdp.executeCdpCommand("Network.setCacheDisabled", Map.of("cacheDisabled", !browserCache));
+        cdp.executeCdpCommand("Network.emulateNetworkConditions", Map.of(
+                "offline", false,
+                "latency", latencyMs,
+                "downloadThroughput", -1,
+                "uploadThroughput", -1));
+    }
+}
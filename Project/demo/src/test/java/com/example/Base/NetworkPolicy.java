@@ -0,0 +1,47 @@
+package com.example.Base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+
+/**
+ * Network conditions for a test, applied by {@link BaseTest} through CDP before the first page load. A method-level
+ * policy replaces the class-level one.
+ *
+ * <pre>
+ * &#64;NetworkPolicy(block = {NetworkPolicy.Asset.IMAGES, NetworkPolicy.Asset.FONTS})
+ * public class CartPageTest extends BaseTest {
+ * </pre>
+ *
+ * <p>Blocked game covers fall back to the inline placeholder {@code app.js} already renders on image errors.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface NetworkPolicy {
+
+    Asset[] block() default {};
+
+    // Added round-trip latency for every request, to see how waits cope with a slow network.
+    long latencyMs() default 0;
+
+    // Off forces every asset over the network, e.g. to measure cold loads; on keeps Chrome's memory cache.
+    boolean browserCache() default true;
+
+    enum Asset {
+        IMAGES("*.svg*", "*.png*", "*.jpg*", "*.jpeg*", "*.gif*", "*.webp*"),
+        FONTS("*.woff*", "*.woff2*", "*.ttf*", "*.otf*"),
+        STYLES("*.css*");
+
+        private final List<String> patterns;
+
+        Asset(String... patterns) {
+            this.patterns = List.of(patterns);
+        }
+
+        public List<String> patterns() {
+            return patterns;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.Base;
+
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+/**
+ * Re-runs a failed test up to {@code -Dtest.retries} (1) times and records the retry and the time the failed attempt
+ * cost in {@link FlakeTracker}. Quarantined tests are not retried. {@link FlakeListener} installs it on every test.
+ */
+public class RetryAnalyzer implements IRetryAnalyzer {
+
+    private static final int MAX_RETRIES = Integer.getInteger("test.retries", 1);
+
+    private int retries;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        String testId = FlakeTracker.id(result);
+        if (retries >= MAX_RETRIES || FlakeTracker.isQuarantined(testId)) {
+            return false;
+        }
+        retries++;
+        FlakeTracker.retried(testId, result.getEndMillis() - result.getStartMillis());
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.Base;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import com.example.Server.StaticFileServer;
+
+/**
+ * Wipes the store's state from a reused session without restarting the browser.
+ *
+ * <p>Must run while the tab is still on the app: the tab's {@code sessionStorage} (PageTimings' {@code __gs_perf}
+ * among it) is only reachable from a page of that origin. The tab is then moved to {@code about:blank} before
+ * {@code localStorage} and cookies are cleared, and is left there for the next test.
+ */
+public final class SessionReset {
+
+    private static final Logger LOG = Logger.getLogger(SessionReset.class.getName());
+
+    // CDP has no session storage type; sessionStorage belongs to the tab and is cleared from the page instead.
+    private static final String STORAGE_TYPES = "local_storage,cookies";
+
+    private static final String CLEAR_SESSION_STORAGE_SCRIPT =
+            "if (location.origin === arguments[0]) { try { sessionStorage.clear(); } catch (e) {} }";
+
+    // Fallback for drivers without CDP; only reaches the origin of the page that is currently open.
+    private static final String CLEAR_STORE_KEYS_SCRIPT =
+            "try {"
+                    + " Object.keys(localStorage)"
+                    + "   .filter(k => /^gs_.*_v1/.test(k))"
+                    + "   .forEach(k => localStorage.removeItem(k));"
+                    + " localStorage.removeItem('gs_session_v1');"
+                    + " sessionStorage.clear();"
+                    + "} catch (e) {}";
+
+    private SessionReset() {
+    }
+
+    public static boolean clear(WebDriver driver) {
+        try {
+            if (driver instanceof HasCdp) {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_SESSION_STORAGE_SCRIPT, appOrigin());
+                leaveApp(driver);
+                ((HasCdp) driver).executeCdpCommand("Storage.clearDataForOrigin",
+                        Map.of("origin", appOrigin(), "storageTypes", STORAGE_TYPES));
+            } else {
+                ((JavascriptExecutor) driver).executeScript(CLEAR_STORE_KEYS_SCRIPT);
+                leaveApp(driver);
+                driver.manage().deleteAllCookies();
+            }
+            return true;
+        } catch (WebDriverException e) {
+            LOG.log(Level.WARNING, "Could not reset browser session", e);
+            return false;
+        }
+    }
+
+    // Unloading the page cancels app.js timers and redirects that could write gs_* keys back after the wipe.
+    private static void leaveApp(WebDriver driver) {
+        driver.get("about:blank");
+    }
+
+    static String appOrigin() {
+        URI uri = URI.create(StaticFileServer.suiteBaseUrl());
+        return uri.getScheme() + "://" + uri.getAuthority();
+    }
+}
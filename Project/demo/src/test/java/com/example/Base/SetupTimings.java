@@ -0,0 +1,78 @@
+package com.example.Base;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Collects per-test setup cost so lifecycle modes can be compared against launching Chrome for every test.
+ */
+public final class SetupTimings {
+
+    private static final Logger LOG = Logger.getLogger(SetupTimings.class.getName());
+
+    private static final LongAdder SETUPS = new LongAdder();
+    private static final LongAdder SETUP_NANOS = new LongAdder();
+    private static final LongAdder NAVIGATE_NANOS = new LongAdder();
+    private static final LongAdder LAUNCHES = new LongAdder();
+    private static final LongAdder LAUNCH_NANOS = new LongAdder();
+
+    private SetupTimings() {
+    }
+
+    public static void recordLaunch(long nanos) {
+        LAUNCHES.increment();
+        LAUNCH_NANOS.add(nanos);
+    }
+
+    public static void recordSetup(long setupNanos, long navigateNanos) {
+        SETUPS.increment();
+        SETUP_NANOS.add(setupNanos);
+        NAVIGATE_NANOS.add(navigateNanos);
+    }
+
+    public static String summary(DriverLifecycle lifecycle) {
+        long setups = SETUPS.sum();
+        long launches = LAUNCHES.sum();
+        if (setups == 0 || launches == 0) {
+            return "Driver lifecycle " + lifecycle + ": no setups recorded";
+        }
+        double avgSetup = millis(SETUP_NANOS.sum()) / setups;
+        double avgLaunch = millis(LAUNCH_NANOS.sum()) / launches;
+        double avgNavigate = millis(NAVIGATE_NANOS.sum()) / setups;
+        // Per-method mode pays a launch plus the first navigation for every test.
+        double perMethodEstimate = avgLaunch + avgNavigate;
+        double savedPerTest = perMethodEstimate - avgSetup;
+
+        return String.format("Driver lifecycle %s: %d tests, %d browser launches%n"
+                        + "  avg setup            %8.1f ms%n"
+                        + "  avg launch           %8.1f ms%n"
+                        + "  per-method estimate  %8.1f ms%n"
+                        + "  saved per test       %8.1f ms (%.1f s over the suite)%n",
+                lifecycle.name().toLowerCase(), setups, launches, avgSetup, avgLaunch, perMethodEstimate,
+                savedPerTest, savedPerTest * setups / 1000.0);
+    }
+
+    public static void report(DriverLifecycle lifecycle) {
+        String summary = summary(lifecycle);
+        LOG.info(summary.trim());
+
+        Path out = Paths.get(System.getProperty("harness.report.dir", "target"), "driver-lifecycle.txt");
+        try {
+            Files.createDirectories(out.getParent());
+            Files.write(out, summary.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Could not write " + out, e);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
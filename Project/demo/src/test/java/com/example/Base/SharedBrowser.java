@@ -0,0 +1,138 @@
+package com.example.Base;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * One Chrome process shared by every test thread, with a fresh browser context per test.
+ *
+ * <p>The first worker launches Chrome; every other worker thread attaches its own chromedriver session to the same
+ * browser through {@code debuggerAddress}. {@link #openContext()} creates an incognito-like context with
+ * {@code Target.createBrowserContext}, opens a tab in it and switches the thread's session to that tab. The store's
+ * {@code gs_*_v1} keys therefore never leak between tests and no storage wipe is needed.
+ */
+public final class SharedBrowser {
+
+    private static final Logger LOG = Logger.getLogger(SharedBrowser.class.getName());
+
+    private static final SharedBrowser INSTANCE = new SharedBrowser();
+
+    private final ThreadLocal<Worker> current = new ThreadLocal<>();
+    private final Set<Worker> workers = ConcurrentHashMap.newKeySet();
+    private WebDriver owner;
+    private String debuggerAddress;
+
+    private SharedBrowser() {
+    }
+
+    public static SharedBrowser getInstance() {
+        return INSTANCE;
+    }
+
+    public WebDriver openContext() {
+        Worker worker = current.get();
+        if (worker == null) {
+            worker = new Worker(connect());
+            current.set(worker);
+            workers.add(worker);
+        }
+
+        HasCdp cdp = (HasCdp) worker.session;
+        String contextId = (String) cdp.executeCdpCommand("Target.createBrowserContext", Map.of())
+                .get("browserContextId");
+        Map<String, Object> target = new HashMap<>();
+        target.put("url", "about:blank");
+        target.put("browserContextId", contextId);
+        target.put("width", 1920);
+        target.put("height", 1080);
+        String targetId = (String) cdp.executeCdpCommand("Target.createTarget", target).get("targetId");
+
+        // chromedriver window handles are DevTools target ids.
+        worker.session.switchTo().window(targetId);
+        worker.contextId = contextId;
+        return worker.session;
+    }
+
+    public void closeContext(WebDriver session) {
+        Worker worker = current.get();
+        if (worker == null || worker.session != session || worker.contextId == null) {
+            return;
+        }
+        try {
+            session.switchTo().window(worker.homeHandle);
+            ((HasCdp) session).executeCdpCommand("Target.disposeBrowserContext",
+                    Map.of("browserContextId", worker.contextId));
+            worker.contextId = null;
+        } catch (WebDriverException e) {
+            LOG.log(Level.WARNING, "Could not dispose browser context, dropping the worker session", e);
+            current.remove();
+            workers.remove(worker);
+            if (session != owner) {
+                quit(session);
+            }
+        }
+    }
+
+    // Attached sessions first: quitting them leaves Chrome running. The owner's quit closes the browser.
+    public synchronized void shutdown() {
+        for (Worker worker : workers) {
+            if (worker.session != owner) {
+                quit(worker.session);
+            }
+        }
+        workers.clear();
+        if (owner != null) {
+            quit(owner);
+            owner = null;
+            debuggerAddress = null;
+        }
+    }
+
+    private synchronized WebDriver connect() {
+        if (owner == null) {
+            owner = DriverFactory.createChromeDriver();
+            debuggerAddress = debuggerAddress(owner);
+            return owner;
+        }
+        return DriverFactory.attachChromeDriver(debuggerAddress);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String debuggerAddress(WebDriver driver) {
+        Object options = ((HasCapabilities) driver).getCapabilities().getCapability("goog:chromeOptions");
+        if (options instanceof Map && ((Map<String, Object>) options).get("debuggerAddress") != null) {
+            return String.valueOf(((Map<String, Object>) options).get("debuggerAddress"));
+        }
+        throw new IllegalStateException("chromedriver did not report a debuggerAddress; cannot share the browser");
+    }
+
+    private static void quit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException ignored) {
+            // Session is already gone.
+        }
+    }
+
+    private static final class Worker {
+
+        private final WebDriver session;
+        // Default-context tab the session parks on between tests.
+        private final String homeHandle;
+        private String contextId;
+
+        private Worker(WebDriver session) {
+            this.session = session;
+            this.homeHandle = session.getWindowHandle();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.Base;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * Skips the artificial delays in {@code app.js}: the 850 ms payment "processing" wait, the 500 ms redirect to
+ * {@code orders.html?success=1}, the 450 ms login/signup redirects and the 350 ms logout redirect.
+ *
+ * <p>A shim registered with {@code Page.addScriptToEvaluateOnNewDocument} runs before {@code app.js} and makes
+ * {@code setTimeout} fire those exact delays immediately, so the same callbacks still run in the same order. Other
+ * timers (the 60 ms search debounce, toast lifetimes) keep real time. Configure the list with
+ * {@code -Dtime.warp.delays=350,450,500,850}; disable with {@code -Dtime.warp=false}.
+ */
+final class TimeWarp {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("time.warp", "true"));
+    private static final String DELAYS = Arrays.stream(System.getProperty("time.warp.delays", "350,450,500,850")
+                    .split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .map(Long::parseLong)
+            .map(String::valueOf)
+            .collect(Collectors.joining(","));
+
+    private static final String SHIM_SCRIPT =
+            "(() => {"
+                    + "  if (window.__gsTimeWarp) return;"
+                    + "  window.__gsTimeWarp = true;"
+                    + "  const skipped = new Set([" + DELAYS + "]);"
+                    + "  const setTimeout = window.setTimeout;"
+                    + "  window.setTimeout = function (handler, delay, ...args) {"
+                    + "    return setTimeout.call(this, handler, skipped.has(Number(delay)) ? 0 : delay, ...args);"
+                    + "  };"
+                    + "})();";
+
+    // Session -> tab the shim was registered on.
+    private static final Map<WebDriver, String> INSTALLED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private TimeWarp() {
+    }
+
+    static void install(WebDriver session) {
+        if (!ENABLED || DELAYS.isEmpty() || !(session instanceof HasCdp)) {
+            return;
+        }
+        String handle = session.getWindowHandle();
+        if (handle.equals(INSTALLED.put(session, handle))) {
+            return;
+        }
+        ((HasCdp) session).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                Map.of("source", SHIM_SCRIPT));
+    }
+}
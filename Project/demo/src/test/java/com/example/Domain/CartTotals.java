@@ -0,0 +1,117 @@
+package com.example.Domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.example.Models.CartLine;
+import com.example.Models.OrderItem;
+
+/**
+ * Java port of {@code cartTotals()} and the quantity rules in {@code app.js}, used as the oracle for what the cart
+ * and payment pages should show.
+ *
+ * <p>Totals are summed in {@code double} exactly as the page does, so {@link #totalText()} matches the rendered text
+ * even where binary rounding shows. {@link #exactTotal()} is the same sum in decimal arithmetic.
+ */
+public record CartTotals(List<Line> lines, double total) {
+
+    public static final int MIN_QTY = 1;
+    public static final int MAX_QTY = 99;
+
+    public record Line(Game game, int qty, double lineTotal) {
+
+        public String lineTotalText() {
+            return money(lineTotal);
+        }
+    }
+
+    public CartTotals {
+        lines = List.copyOf(lines);
+    }
+
+    // Lines for games missing from the catalog are dropped, as the page does.
+    public static CartTotals of(List<CartLine> cart, Catalog catalog) {
+        List<Line> lines = new ArrayList<>();
+        double total = 0;
+        for (CartLine item : cart) {
+            Game game = catalog.find(item.gameId()).orElse(null);
+            if (game == null) {
+                continue;
+            }
+            int qty = clampQty(item.qty());
+            double lineTotal = qty * game.price().doubleValue();
+            lines.add(new Line(game, qty, lineTotal));
+            total += lineTotal;
+        }
+        return new CartTotals(lines, total);
+    }
+
+    public static CartTotals of(CartLine... cart) {
+        return of(List.of(cart), Catalog.seeded());
+    }
+
+    // Repeated ids add to one line's quantity, as StoreFixture.withCartOf() seeds them.
+    public static CartTotals ofGames(String... gameIds) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (String gameId : gameIds) {
+            quantities.merge(gameId, 1, Integer::sum);
+        }
+        List<CartLine> cart = new ArrayList<>();
+        quantities.forEach((gameId, qty) -> cart.add(CartLine.of(gameId, qty)));
+        return of(cart, Catalog.seeded());
+    }
+
+    // Number(qty) || 1 followed by the 1..99 clamp; 0 is falsy in JS and becomes 1.
+    public static int clampQty(int qty) {
+        return Math.max(MIN_QTY, Math.min(MAX_QTY, qty == 0 ? 1 : qty));
+    }
+
+    // "+" on the cart page and "Add to cart" on the game page.
+    public static int increment(int qty) {
+        return Math.min(MAX_QTY, (qty == 0 ? 1 : qty) + 1);
+    }
+
+    // "−" on the cart page.
+    public static int decrement(int qty) {
+        return Math.max(MIN_QTY, (qty == 0 ? 1 : qty) - 1);
+    }
+
+    // money() with an en-US locale: Intl rounds the double's exact value half away from zero.
+    public static String money(double amount) {
+        NumberFormat format = NumberFormat.getCurrencyInstance(Locale.US);
+        return format.format(new BigDecimal(amount).setScale(2, RoundingMode.HALF_UP));
+    }
+
+    public String totalText() {
+        return money(total);
+    }
+
+    // totalText() without the currency symbol, which depends on the browser's locale: "3,959.01".
+    public String amountText() {
+        NumberFormat format = NumberFormat.getNumberInstance(Locale.US);
+        format.setMinimumFractionDigits(2);
+        format.setMaximumFractionDigits(2);
+        return format.format(new BigDecimal(total).setScale(2, RoundingMode.HALF_UP));
+    }
+
+    // The Number(total.toFixed(2)) stored on the order.
+    public BigDecimal orderTotal() {
+        return new BigDecimal(total).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public BigDecimal exactTotal() {
+        return lines.stream()
+                .map(line -> line.game().price().multiply(BigDecimal.valueOf(line.qty())))
+                .reduce(BigDecimal.ZERO.setScale(2), BigDecimal::add);
+    }
+
+    public List<OrderItem> orderItems() {
+        return lines.stream().map(line -> line.game().orderItem(line.qty())).toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.Domain;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * The games the store knows about, keyed by id like the {@code gamesById} map in {@code app.js}.
+ *
+ * <p>{@link #seeded()} mirrors {@code seedGames()}; keep the two in step when the catalog changes.
+ */
+public final class Catalog {
+
+    private static final Catalog SEEDED = new Catalog(List.of(
+            game("neon-drift", "Neon Drift", "19.99", "Racing", 4.6),
+            game("iron-legion", "Iron Legion", "29.99", "Action", 4.4),
+            game("void-echo", "Void Echo", "24.99", "Sci‑Fi RPG", 4.7),
+            game("cryptkeeper", "Cryptkeeper", "14.99", "Roguelite", 4.3),
+            game("skyforge-tactics", "Skyforge Tactics", "34.99", "Strategy", 4.2),
+            game("shadow-circuit", "Shadow Circuit", "21.99", "Stealth", 4.5),
+            game("astral-odyssey", "Astral Odyssey", "39.99", "Open World", 4.8),
+            game("pixel-quest", "Pixel Quest DX", "9.99", "Indie", 4.1),
+            game("mecha-arena", "Mecha Arena", "27.99", "Shooter", 4.0)));
+
+    private final Map<String, Game> byId = new LinkedHashMap<>();
+
+    public Catalog(List<Game> games) {
+        for (Game game : games) {
+            byId.put(game.id(), game);
+        }
+    }
+
+    public static Catalog seeded() {
+        return SEEDED;
+    }
+
+    public Collection<Game> games() {
+        return byId.values();
+    }
+
+    public Optional<Game> find(String gameId) {
+        return Optional.ofNullable(byId.get(gameId));
+    }
+
+    public Game get(String gameId) {
+        return find(gameId).orElseThrow(() -> new NoSuchElementException("No game with id " + gameId));
+    }
+
+    private static Game game(String id, String title, String price, String genre, double rating) {
+        return new Game(id, title, new BigDecimal(price), genre, rating);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.Domain;
+
+import java.math.BigDecimal;
+
+import com.example.Models.OrderItem;
+
+/**
+ * One catalog entry of {@code gs_games_v1}, without the presentation-only accent colours and description.
+ */
+public record Game(String id, String title, BigDecimal price, String genre, double rating) {
+
+    public OrderItem orderItem(int qty) {
+        return new OrderItem(id, title, price, qty);
+    }
+}
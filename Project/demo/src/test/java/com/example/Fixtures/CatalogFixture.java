@@ -0,0 +1,124 @@
+package com.example.Fixtures;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * Replaces the store catalog with {@code size} generated games, for scale tests of the home page grid.
+ *
+ * <p>Game {@code i} is titled {@code "<adjective> <noun> <i as 6 digits>"}, with adjectives cycling every game, so a
+ * query for an adjective matches a tenth of the catalog and the 6-digit number matches one game. {@link #matches}
+ * gives the count {@code renderGames()} should show for a query.
+ *
+ * <p>100k games are well past Chrome's per-origin localStorage quota, so the catalog is not written to storage.
+ * Instead a script registered with {@code Page.addScriptToEvaluateOnNewDocument} makes
+ * {@code localStorage.getItem("gs_games_v1")} return the generated JSON, which {@code getGames()} parses and renders
+ * exactly as it would a stored catalog. {@link #close()} removes the script; the tab keeps it until then.
+ */
+public final class CatalogFixture implements AutoCloseable {
+
+    private static final String GAMES_KEY = "gs_games_v1";
+
+    private static final List<String> ADJECTIVES = List.of("Neon", "Iron", "Void", "Crypt", "Sky", "Shadow", "Astral",
+            "Pixel", "Mecha", "Solar");
+    private static final List<String> NOUNS = List.of("Drift", "Legion", "Echo", "Keeper", "Forge", "Circuit",
+            "Odyssey", "Quest", "Arena", "Tactics", "Rift", "Saga", "Runner");
+    private static final List<String> GENRES = List.of("Racing", "Action", "Sci-Fi RPG", "Roguelite", "Strategy",
+            "Stealth", "Open World", "Indie", "Shooter");
+
+    private static final String GENERATOR_SCRIPT =
+            "(() => {"
+                    + "  const size = %d, adjectives = %s, nouns = %s, genres = %s;"
+                    + "  const accents = ['#7C4DFF', '#00D4FF', '#FF4D6D', '#FFB020', '#35D07F'];"
+                    + "  let json = null;"
+                    + "  const getItem = Storage.prototype.getItem;"
+                    + "  Storage.prototype.getItem = function (key) {"
+                    + "    if (key !== '" + GAMES_KEY + "' || this !== window.localStorage) {"
+                    + "      return getItem.call(this, key);"
+                    + "    }"
+                    + "    if (json === null) {"
+                    + "      const games = new Array(size);"
+                    + "      for (let i = 0; i < size; i++) {"
+                    + "        const n = String(i).padStart(6, '0');"
+                    + "        games[i] = {"
+                    + "          id: 'scale-' + n,"
+                    + "          title: adjectives[i %% adjectives.length] + ' '"
+                    + "            + nouns[Math.floor(i / adjectives.length) %% nouns.length] + ' ' + n,"
+                    + "          price: 4.99 + (i %% 50),"
+                    + "          genre: genres[i %% genres.length],"
+                    + "          rating: 3 + (i %% 21) / 10,"
+                    + "          accentA: accents[i %% accents.length],"
+                    + "          accentB: accents[(i + 2) %% accents.length],"
+                    + "        };"
+                    + "      }"
+                    + "      json = JSON.stringify(games);"
+                    + "    }"
+                    + "    return json;"
+                    + "  };"
+                    + "})();";
+
+    private final WebDriver session;
+    private final int size;
+    private final String scriptId;
+
+    private CatalogFixture(WebDriver session, int size, String scriptId) {
+        this.session = session;
+        this.size = size;
+        this.scriptId = scriptId;
+    }
+
+    // Applies from the next navigation; needs the undecorated Chrome session for CDP.
+    public static CatalogFixture install(WebDriver session, int size) {
+        if (!(session instanceof HasCdp)) {
+            throw new IllegalStateException("Catalog fixture needs a Chrome session with CDP");
+        }
+        String script = String.format(Locale.ROOT, GENERATOR_SCRIPT, size, jsArray(ADJECTIVES), jsArray(NOUNS),
+                jsArray(GENRES));
+        Map<String, Object> result = ((HasCdp) session).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                Map.of("source", script));
+        return new CatalogFixture(session, size, (String) result.get("identifier"));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public static String title(int index) {
+        return ADJECTIVES.get(index % ADJECTIVES.size()) + " "
+                + NOUNS.get(index / ADJECTIVES.size() % NOUNS.size()) + " "
+                + String.format(Locale.ROOT, "%06d", index);
+    }
+
+    // Same trimmed, case-insensitive title match as renderGames().
+    public int matches(String query) {
+        String q = query.trim().toLowerCase(Locale.ROOT);
+        if (q.isEmpty()) {
+            return size;
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (title(i).toLowerCase(Locale.ROOT).contains(q)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void close() {
+        ((HasCdp) session).executeCdpCommand("Page.removeScriptToEvaluateOnNewDocument",
+                Map.of("identifier", scriptId));
+    }
+
+    private static String jsArray(List<String> values) {
+        StringBuilder array = new StringBuilder("[");
+        for (String value : values) {
+            array.append(array.length() > 1 ? ", " : "").append('\'').append(value).append('\'');
+        }
+        return array.append(']').toString();
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.Fixtures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import com.example.Models.CartLine;
+import com.example.Models.Order;
+import com.example.Models.User;
+
+/**
+ * Seeds the store's localStorage directly instead of clicking through game and cart pages.
+ *
+ * <pre>
+ * StoreFixture.forUser("payment-test-user")
+ *         .withCart(CartLine.of("neon-drift", 1), CartLine.of("iron-legion", 1))
+ *         .openAt(driver, baseUrl, "/payment.html");
+ * </pre>
+ *
+ * <p>Every key is written in a single {@code executeScript} call. The browser must already be on the store's
+ * origin, which {@code BaseTest.setup()} guarantees.
+ */
+public final class StoreFixture {
+
+    private static final String SESSION_KEY = "gs_session_v1";
+    private static final String USERS_KEY = "gs_users_v1";
+    private static final String CART_PREFIX = "gs_cart_v1_user_";
+    private static final String ORDERS_PREFIX = "gs_orders_v1_user_";
+    private static final String LAST_SUCCESS_PREFIX = "gs_last_success_v1_user_";
+
+    private static final String APPLY_SCRIPT =
+            "const writes = arguments[0], removals = arguments[1];"
+                    + "removals.forEach(k => localStorage.removeItem(k));"
+                    + "Object.keys(writes).forEach(k => localStorage.setItem(k, JSON.stringify(writes[k])));";
+
+    private final String userId;
+    private Map<String, Object> session;
+    private List<CartLine> cart;
+    private List<Order> orders;
+    private Order lastSuccess;
+    private boolean clearLastSuccess;
+    private List<User> users;
+
+    private StoreFixture(String userId, Map<String, Object> session) {
+        this.userId = userId;
+        this.session = session;
+    }
+
+    // Signs in as the same placeholder user the page objects' setLoggedInUser() writes.
+    public static StoreFixture forUser(String userId) {
+        Map<String, Object> session = new LinkedHashMap<>();
+        session.put("userId", userId);
+        session.put("name", "Test User");
+        session.put("email", "test@example.com");
+        return new StoreFixture(userId, session);
+    }
+
+    public static StoreFixture forUser(User user) {
+        return new StoreFixture(user.id(), user.toSession()).withUsers(user);
+    }
+
+    public StoreFixture withCart(CartLine... lines) {
+        this.cart = Arrays.asList(lines);
+        return this;
+    }
+
+    // Repeated ids become one line with a higher quantity, as clicking "Add to cart" repeatedly would.
+    public StoreFixture withCartOf(String... gameIds) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (String gameId : gameIds) {
+            quantities.merge(gameId, 1, Integer::sum);
+        }
+        List<CartLine> lines = new ArrayList<>();
+        quantities.forEach((gameId, qty) -> lines.add(CartLine.of(gameId, qty)));
+        this.cart = lines;
+        return this;
+    }
+
+    public StoreFixture withEmptyCart() {
+        this.cart = List.of();
+        return this;
+    }
+
+    // Newest first, matching how the app unshifts new orders.
+    public StoreFixture withOrders(Order... orders) {
+        this.orders = Arrays.asList(orders);
+        return this;
+    }
+
+    public StoreFixture withLastSuccess(Order order) {
+        this.lastSuccess = order;
+        this.clearLastSuccess = false;
+        return this;
+    }
+
+    public StoreFixture withoutLastSuccess() {
+        this.lastSuccess = null;
+        this.clearLastSuccess = true;
+        return this;
+    }
+
+    public StoreFixture withUsers(User... users) {
+        this.users = Arrays.asList(users);
+        return this;
+    }
+
+    public StoreFixture signedOut() {
+        this.session = null;
+        return this;
+    }
+
+    public void apply(WebDriver driver) {
+        Map<String, Object> writes = new LinkedHashMap<>();
+        List<String> removals = new ArrayList<>();
+
+        if (session != null) {
+            writes.put(SESSION_KEY, session);
+        } else {
+            removals.add(SESSION_KEY);
+        }
+        if (users != null) {
+            List<Map<String, Object>> stored = new ArrayList<>();
+            users.forEach(u -> stored.add(u.toStorage()));
+            writes.put(USERS_KEY, stored);
+        }
+        if (cart != null) {
+            List<Map<String, Object>> stored = new ArrayList<>();
+            cart.forEach(line -> stored.add(line.toStorage()));
+            writes.put(CART_PREFIX + userId, stored);
+        }
+        if (orders != null) {
+            List<Map<String, Object>> stored = new ArrayList<>();
+            orders.forEach(order -> stored.add(order.toStorage()));
+            writes.put(ORDERS_PREFIX + userId, stored);
+        }
+        if (lastSuccess != null) {
+            writes.put(LAST_SUCCESS_PREFIX + userId, lastSuccess.toLastSuccess());
+        } else if (clearLastSuccess) {
+            removals.add(LAST_SUCCESS_PREFIX + userId);
+        }
+
+        ((JavascriptExecutor) driver).executeScript(APPLY_SCRIPT, writes, removals);
+    }
+
+    // Seeds state, then loads the page under test: one navigation for the whole setup.
+    public void openAt(WebDriver driver, String baseUrl, String path) {
+        apply(driver);
+        driver.get(baseUrl + path);
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.Impact;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Static view of {@code js/app.js}: its top-level functions, who calls whom, and which {@code data-page} values
+ * reach each function from {@code init()}. A change inside {@code cartPage()} therefore maps to the cart page only,
+ * while a change to {@code money()} maps to every page that renders prices.
+ */
+final class AppScript {
+
+    private static final Pattern FUNCTION = Pattern.compile("^  (?:async )?function (\\w+)\\(");
+    private static final Pattern PAGE_CONSTANT = Pattern.compile("^\\s+(\\w+): \"(\\w+)\",?$");
+    private static final Pattern PAGE_CONDITION = Pattern.compile("if \\(page (===|!==) PAGES\\.(\\w+)\\)");
+    private static final Pattern IDENTIFIER = Pattern.compile("\\b([A-Za-z_$][\\w$]*)\\b");
+
+    private record Range(String name, int start, int end) {
+    }
+
+    private final List<Range> functions;
+    private final Map<String, Set<String>> pagesByFunction;
+
+    private AppScript(List<Range> functions, Map<String, Set<String>> pagesByFunction) {
+        this.functions = functions;
+        this.pagesByFunction = pagesByFunction;
+    }
+
+    static AppScript parse(Path appJs) throws IOException {
+        List<String> lines = Files.readAllLines(appJs, StandardCharsets.UTF_8);
+
+        Map<String, String> pageConstants = new HashMap<>();
+        Map<String, Range> ranges = new LinkedHashMap<>();
+        boolean inPages = false;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.contains("const PAGES = ")) {
+                inPages = true;
+            } else if (inPages) {
+                Matcher constant = PAGE_CONSTANT.matcher(line);
+                if (constant.matches()) {
+                    pageConstants.put(constant.group(1), constant.group(2));
+                } else {
+                    inPages = false;
+                }
+            }
+
+            Matcher function = FUNCTION.matcher(line);
+            if (function.find()) {
+                int end = i;
+                while (end + 1 < lines.size() && !lines.get(end).equals("  }")) {
+                    end++;
+                }
+                ranges.put(function.group(1), new Range(function.group(1), i + 1, end + 1));
+            }
+        }
+
+        Map<String, Set<String>> callees = new HashMap<>();
+        for (Range range : ranges.values()) {
+            Set<String> calls = new HashSet<>();
+            for (int i = range.start(); i < range.end(); i++) {
+                Matcher identifier = IDENTIFIER.matcher(lines.get(i));
+                while (identifier.find()) {
+                    if (ranges.containsKey(identifier.group(1))) {
+                        calls.add(identifier.group(1));
+                    }
+                }
+            }
+            callees.put(range.name(), calls);
+        }
+
+        Set<String> allPages = new TreeSet<>(pageConstants.values());
+        Map<String, Set<String>> pages = new HashMap<>();
+        Deque<String> pending = new ArrayDeque<>();
+        Range init = ranges.get("init");
+        if (init != null) {
+            Set<String> block = null;
+            for (int i = init.start(); i < init.end() - 1; i++) {
+                String line = lines.get(i);
+                Set<String> condition = block;
+                Matcher guard = PAGE_CONDITION.matcher(line);
+                if (guard.find()) {
+                    String page = pageConstants.get(guard.group(2));
+                    condition = new TreeSet<>(allPages);
+                    if (guard.group(1).equals("===")) {
+                        condition.retainAll(Set.of(page));
+                    } else {
+                        condition.remove(page);
+                    }
+                    if (line.trim().endsWith("{")) {
+                        block = condition;
+                        continue;
+                    }
+                    line = line.substring(guard.end());
+                } else if (line.trim().equals("}")) {
+                    block = null;
+                    continue;
+                }
+                Matcher identifier = IDENTIFIER.matcher(line);
+                while (identifier.find()) {
+                    String name = identifier.group(1);
+                    if (ranges.containsKey(name)) {
+                        pages.computeIfAbsent(name, k -> new TreeSet<>())
+                                .addAll(condition != null ? condition : allPages);
+                        pending.add(name);
+                    }
+                }
+            }
+        }
+
+        // Pages flow from each entry point down the call graph until nothing changes.
+        while (!pending.isEmpty()) {
+            String caller = pending.poll();
+            for (String callee : callees.getOrDefault(caller, Set.of())) {
+                Set<String> target = pages.computeIfAbsent(callee, k -> new TreeSet<>());
+                if (target.addAll(pages.get(caller))) {
+                    pending.add(callee);
+                }
+            }
+        }
+
+        return new AppScript(List.copyOf(ranges.values()), pages);
+    }
+
+    /**
+     * {@code data-page} values affected by a change on the given 1-based line, or {@code null} when the line is
+     * outside any page-specific function (constants, {@code init()}, unreachable code) and may affect every page.
+     */
+    Set<String> pagesForLine(int line) {
+        for (Range range : functions) {
+            if (line >= range.start() && line <= range.end()) {
+                if (range.name().equals("init")) {
+                    return null;
+                }
+                return pagesByFunction.get(range.name());
+            }
+        }
+        return null;
+    }
+
+    // Name of the top-level function containing the 1-based line, or null outside any function.
+    String functionAt(int line) {
+        for (Range range : functions) {
+            if (line >= range.start() && line <= range.end()) {
+                return range.name();
+            }
+        }
+        return null;
+    }
+
+    Map<String, Set<String>> pagesByFunction() {
+        return pagesByFunction;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.Impact;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Which HTML pages and page objects each test class depends on.
+ *
+ * <p>Built statically from the test and page-object sources (page-object usage, {@code .html} literals and the start
+ * path) and, when a previous run left one, merged with the navigation the suite actually recorded in
+ * {@code page-timings.csv}. Recorded visits catch pages reached by clicks and redirects, such as cart to payment.
+ * Browser-free tests open no page; they are mapped to the {@code app.js} functions they run or mirror instead.
+ */
+final class ImpactMap {
+
+    private static final Pattern HTML_LITERAL = Pattern.compile("\"/?([\\w-]+\\.html)");
+    private static final Pattern PAGE_OBJECT = Pattern.compile("\\bnew (\\w+Page)\\(");
+
+    static final String ALL_FUNCTIONS = "*";
+
+    // AppLogicTest evaluates app.js itself; CartTotalsTest checks the Java port of its catalog and cart rules.
+    private static final Map<String, Set<String>> FUNCTIONS_BY_BROWSER_FREE_TEST = Map.of(
+            "AppLogicTest", Set.of(ALL_FUNCTIONS),
+            "CartTotalsTest", Set.of("seedGames", "money", "cartTotals", "gamePage", "cartPage"));
+
+    private final Map<String, Set<String>> pagesByTest = new TreeMap<>();
+    private final Map<String, Set<String>> pageObjectsByTest = new TreeMap<>();
+    private final Map<String, Set<String>> functionsByTest = new TreeMap<>();
+
+    static ImpactMap build(Path testSources, Path recordedVisits) throws IOException {
+        ImpactMap map = new ImpactMap();
+
+        Map<String, Set<String>> pagesByPageObject = new TreeMap<>();
+        for (Path source : javaFiles(testSources.resolve("Pages"))) {
+            pagesByPageObject.put(className(source), htmlLiterals(Files.readString(source, StandardCharsets.UTF_8)));
+        }
+
+        for (Path source : javaFiles(testSources.resolve("Tests"))) {
+            String test = className(source);
+            String code = Files.readString(source, StandardCharsets.UTF_8);
+            Set<String> pages = htmlLiterals(code);
+            if (FUNCTIONS_BY_BROWSER_FREE_TEST.containsKey(test)) {
+                map.functionsByTest.put(test, FUNCTIONS_BY_BROWSER_FREE_TEST.get(test));
+            } else if (!code.contains("getStartPath()") || code.contains("return \"/\";")) {
+                pages.add("index.html");
+            }
+            Set<String> pageObjects = new TreeSet<>();
+            Matcher pageObject = PAGE_OBJECT.matcher(code);
+            while (pageObject.find()) {
+                if (pagesByPageObject.containsKey(pageObject.group(1))) {
+                    pageObjects.add(pageObject.group(1));
+                    pages.addAll(pagesByPageObject.get(pageObject.group(1)));
+                }
+            }
+            map.pagesByTest.put(test, pages);
+            map.pageObjectsByTest.put(test, pageObjects);
+        }
+
+        if (recordedVisits != null && Files.isRegularFile(recordedVisits)) {
+            List<String> rows = Files.readAllLines(recordedVisits, StandardCharsets.UTF_8);
+            for (String row : rows.subList(Math.min(1, rows.size()), rows.size())) {
+                String[] columns = row.split(",", 3);
+                if (columns.length < 2) {
+                    continue;
+                }
+                String test = columns[0].contains(".") ? columns[0].substring(0, columns[0].indexOf('.')) : columns[0];
+                String page = columns[1].substring(columns[1].lastIndexOf('/') + 1);
+                map.pagesByTest.computeIfAbsent(test, k -> new TreeSet<>()).add(page.isEmpty() ? "index.html" : page);
+            }
+        }
+        return map;
+    }
+
+    Set<String> tests() {
+        return pagesByTest.keySet();
+    }
+
+    Set<String> testsVisiting(Set<String> htmlPages) {
+        Set<String> tests = new TreeSet<>();
+        pagesByTest.forEach((test, pages) -> {
+            if (pages.stream().anyMatch(htmlPages::contains)) {
+                tests.add(test);
+            }
+        });
+        return tests;
+    }
+
+    // Browser-free tests covering any of the given app.js functions.
+    Set<String> testsCalling(Set<String> functions) {
+        Set<String> tests = new TreeSet<>();
+        functionsByTest.forEach((test, covered) -> {
+            if (covered.contains(ALL_FUNCTIONS) || covered.stream().anyMatch(functions::contains)) {
+                tests.add(test);
+            }
+        });
+        return tests;
+    }
+
+    Set<String> testsUsing(String pageObject) {
+        Set<String> tests = new TreeSet<>();
+        pageObjectsByTest.forEach((test, pageObjects) -> {
+            if (pageObjects.contains(pageObject)) {
+                tests.add(test);
+            }
+        });
+        return tests;
+    }
+
+    String describe() {
+        StringBuilder out = new StringBuilder();
+        pagesByTest.forEach((test, pages) -> out.append(test).append(": pages ").append(pages)
+                .append(", page objects ").append(pageObjectsByTest.getOrDefault(test, Set.of()))
+                .append(", app.js functions ").append(functionsByTest.getOrDefault(test, Set.of())).append('\n'));
+        return out.toString();
+    }
+
+    private static Set<String> htmlLiterals(String code) {
+        Set<String> pages = new TreeSet<>();
+        Matcher literal = HTML_LITERAL.matcher(code);
+        while (literal.find()) {
+            pages.add(literal.group(1));
+        }
+        return pages;
+    }
+
+    private static List<Path> javaFiles(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*.java")) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    private static String className(Path source) {
+        String name = source.getFileName().toString();
+        return name.substring(0, name.length() - ".java".length());
+    }
+}
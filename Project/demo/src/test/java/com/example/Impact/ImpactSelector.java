@@ -0,0 +1,236 @@
+package com.example.Impact;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Picks the browser tests a diff can affect and writes a TestNG suite with only those classes.
+ *
+ * <pre>
+ * cd Project/demo
+ * mvn -q test-compile
+ * java -cp target/test-classes com.example.Impact.ImpactSelector --base origin/master
+ * mvn test -Dtestng.suite=target/impact-testng.xml
+ * </pre>
+ *
+ * <p>Rules: a changed test class runs itself; a changed page object runs the tests that construct it; a changed
+ * HTML page runs the tests that visit it; a change in {@code app.js} runs the tests visiting the pages whose
+ * functions contain the changed lines, plus the browser-free tests covering those functions. Styles and any harness
+ * code (Base, Support, pom.xml, suites) run everything. Files the site and suite never load (docs, benchmarks,
+ * workflows) run nothing. When git cannot produce the diff, everything runs. With no affected test the output suite
+ * is removed and the selector says so.
+ */
+public final class ImpactSelector {
+
+    private static final Pattern DIFF_FILE = Pattern.compile("^diff --git a/(.+) b/(.+)$");
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+    private static final Pattern SUITE_CLASS = Pattern.compile("<class name=\"com\\.example\\.Tests\\.(\\w+)\"\\s*/>");
+    private static final Pattern DATA_PAGE = Pattern.compile("<body[^>]*data-page=\"(\\w+)\"");
+    private static final Set<String> COVER_PAGES = Set.of("index.html", "game.html", "cart.html");
+
+    private final Path repoRoot;
+    private final Path moduleDir;
+    private final Path siteRoot;
+    private final ImpactMap map;
+    private final AppScript appScript;
+    private final Map<String, String> htmlByDataPage;
+
+    private final Set<String> selected = new TreeSet<>();
+    private final Map<String, Set<String>> reasons = new TreeMap<>();
+    private boolean all;
+
+    ImpactSelector(Path repoRoot, Path moduleDir, Path siteRoot, Path recordedVisits) throws IOException {
+        this.repoRoot = repoRoot;
+        this.moduleDir = moduleDir;
+        this.siteRoot = siteRoot;
+        this.map = ImpactMap.build(moduleDir.resolve("src/test/java/com/example"), recordedVisits);
+        this.appScript = AppScript.parse(siteRoot.resolve("js/app.js"));
+        this.htmlByDataPage = new LinkedHashMap<>();
+        try (var pages = Files.newDirectoryStream(siteRoot, "*.html")) {
+            for (Path page : pages) {
+                Matcher dataPage = DATA_PAGE.matcher(Files.readString(page, StandardCharsets.UTF_8));
+                if (dataPage.find()) {
+                    htmlByDataPage.put(dataPage.group(1), page.getFileName().toString());
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        Path moduleDir = Paths.get("").toAbsolutePath();
+        String base = options.getOrDefault("base", "HEAD~1");
+        Path suite = moduleDir.resolve(options.getOrDefault("suite", "testng.xml"));
+        Path out = moduleDir.resolve(options.getOrDefault("out", "target/impact-testng.xml"));
+        String reportDir = System.getProperty("harness.report.dir", "target");
+        Path visits = moduleDir.resolve(options.getOrDefault("visits", reportDir + "/page-timings.csv"));
+
+        String topLevel = git(moduleDir, "rev-parse", "--show-toplevel");
+        Path repoRoot = topLevel != null ? Paths.get(topLevel.trim()) : moduleDir;
+        Path siteRoot = Paths.get(System.getProperty("static.root", repoRoot.toString()));
+        ImpactSelector selector = new ImpactSelector(repoRoot, moduleDir, siteRoot, visits);
+
+        String diff = git(repoRoot, "diff", "-U0", "--no-color", base);
+        if (diff == null) {
+            selector.selectAll("git diff against " + base + " failed");
+        } else {
+            selector.applyDiff(diff);
+        }
+
+        Files.createDirectories(out.getParent());
+        Files.writeString(out.resolveSibling("impact-map.txt"), selector.map.describe(), StandardCharsets.UTF_8);
+        System.out.print(selector.report(base));
+        if (!selector.writeSuite(suite, out)) {
+            Files.deleteIfExists(out);
+            System.out.println("No browser tests affected; " + out.getFileName() + " not written.");
+        }
+    }
+
+    void applyDiff(String diff) {
+        String path = null;
+        List<Integer> appLines = new ArrayList<>();
+        for (String line : diff.split("\n")) {
+            Matcher file = DIFF_FILE.matcher(line);
+            if (file.matches()) {
+                if (path != null) {
+                    applyChange(path, appLines);
+                }
+                path = file.group(2);
+                appLines = new ArrayList<>();
+                continue;
+            }
+            Matcher hunk = HUNK.matcher(line);
+            if (hunk.find()) {
+                int start = Integer.parseInt(hunk.group(1));
+                int count = hunk.group(2) == null ? 1 : Integer.parseInt(hunk.group(2));
+                // Pure deletions report the line before the removed block.
+                for (int i = 0; i < Math.max(1, count); i++) {
+                    appLines.add(start + i);
+                }
+            }
+        }
+        if (path != null) {
+            applyChange(path, appLines);
+        }
+    }
+
+    void applyChange(String repoPath, List<Integer> changedLines) {
+        if (all) {
+            return;
+        }
+        Path file = repoRoot.resolve(repoPath).normalize();
+        String sources = moduleDir.resolve("src/test/java/com/example").toString() + "/";
+
+        if (file.startsWith(moduleDir)) {
+            String path = file.toString();
+            if (path.startsWith(sources + "Tests/")) {
+                select(Set.of(className(file)), repoPath);
+            } else if (path.startsWith(sources + "Pages/")) {
+                select(map.testsUsing(className(file)), repoPath);
+            } else if (!file.startsWith(moduleDir.resolve("target"))) {
+                selectAll(repoPath);
+            }
+            return;
+        }
+        if (!file.startsWith(siteRoot)) {
+            return;
+        }
+
+        String sitePath = siteRoot.relativize(file).toString().replace('\\', '/');
+        if (sitePath.equals("js/app.js")) {
+            Set<String> pages = new TreeSet<>();
+            Set<String> functions = new TreeSet<>();
+            for (int line : changedLines) {
+                Set<String> dataPages = appScript.pagesForLine(line);
+                if (dataPages == null) {
+                    selectAll(repoPath + ":" + line);
+                    return;
+                }
+                dataPages.forEach(p -> pages.add(htmlByDataPage.getOrDefault(p, p + ".html")));
+                functions.add(appScript.functionAt(line));
+            }
+            select(map.testsVisiting(pages), repoPath + " " + pages);
+            select(map.testsCalling(functions), repoPath + " " + functions);
+        } else if (sitePath.startsWith("css/")) {
+            selectAll(repoPath);
+        } else if (sitePath.startsWith("resources/")) {
+            select(map.testsVisiting(COVER_PAGES), repoPath);
+        } else if (!sitePath.contains("/") && sitePath.endsWith(".html")) {
+            select(map.testsVisiting(Set.of(sitePath)), repoPath);
+        }
+    }
+
+    void selectAll(String reason) {
+        all = true;
+        select(map.tests(), reason);
+    }
+
+    Set<String> selected() {
+        return selected;
+    }
+
+    private void select(Set<String> tests, String reason) {
+        for (String test : tests) {
+            selected.add(test);
+            reasons.computeIfAbsent(test, k -> new TreeSet<>()).add(reason);
+        }
+    }
+
+    private String report(String base) {
+        StringBuilder out = new StringBuilder("Tests affected since " + base + ":\n");
+        selected.forEach(test -> out.append("  ").append(test).append("  <- ").append(String.join(", ", reasons.get(test))).append('\n'));
+        return out.toString();
+    }
+
+    // Copies the suite, keeping listeners and dropping the classes that were not selected.
+    private boolean writeSuite(Path suite, Path out) throws IOException {
+        StringBuilder filtered = new StringBuilder();
+        boolean any = false;
+        for (String line : Files.readAllLines(suite, StandardCharsets.UTF_8)) {
+            Matcher testClass = SUITE_CLASS.matcher(line);
+            if (testClass.find()) {
+                if (!selected.contains(testClass.group(1))) {
+                    continue;
+                }
+                any = true;
+            }
+            filtered.append(line).append('\n');
+        }
+        if (any) {
+            Files.writeString(out, filtered, StandardCharsets.UTF_8);
+        }
+        return any;
+    }
+
+    private static String className(Path source) {
+        String name = source.getFileName().toString();
+        return name.endsWith(".java") ? name.substring(0, name.length() - ".java".length()) : name;
+    }
+
+    private static String git(Path dir, String... args) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(List.of("git"));
+        command.addAll(List.of(args));
+        Process process = new ProcessBuilder(command).directory(dir.toFile()).redirectErrorStream(false).start();
+        String output;
+        try (InputStream in = process.getInputStream()) {
+            output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        return process.waitFor() == 0 ? output : null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.Load;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openqa.selenium.WebDriver;
+
+import com.example.Fixtures.StoreFixture;
+import com.example.Pages.CartPage;
+import com.example.Pages.HomePage;
+import com.example.Pages.OrdersPage;
+import com.example.Pages.PaymentPage;
+import com.example.Support.WaitEngine;
+
+/**
+ * One virtual shopper walking the checkout funnel with the same page objects the functional suite uses:
+ * search, add to cart, bump the quantity, check out, pay and land on the orders page.
+ */
+final class CheckoutJourney {
+
+    static final String GAME_ID = "neon-drift";
+    private static final String SEARCH_TEXT = "Neon";
+
+    private final WebDriver driver;
+    private final String baseUrl;
+    private final String userId;
+    private final Duration thinkTime;
+    private final LoadReport report;
+
+    private final WaitEngine waits;
+    private final HomePage home;
+    private final CartPage cart;
+    private final PaymentPage payment;
+    private final OrdersPage orders;
+
+    CheckoutJourney(WebDriver driver, String baseUrl, String userId, Duration thinkTime, LoadReport report) {
+        this.driver = driver;
+        this.baseUrl = baseUrl;
+        this.userId = userId;
+        this.thinkTime = thinkTime;
+        this.report = report;
+        this.waits = new WaitEngine(driver);
+        this.home = new HomePage(driver);
+        this.cart = new CartPage(driver);
+        this.payment = new PaymentPage(driver);
+        this.orders = new OrdersPage(driver);
+    }
+
+    // Runs the funnel once; an exception leaves the step that threw as the failed one.
+    void checkout() throws InterruptedException {
+        step("home", () -> {
+            driver.get(baseUrl + "/");
+            // Start every iteration signed in with an empty cart; past orders are dropped so storage stays small.
+            StoreFixture.forUser(userId).withEmptyCart().withOrders().withoutLastSuccess().apply(driver);
+            home.searchGame(SEARCH_TEXT);
+        });
+        step("add-to-cart", () -> cart.addGameToCartFromGamePage(baseUrl, GAME_ID));
+        step("cart", () -> {
+            cart.openPath(baseUrl, "/cart.html");
+            cart.clickIncrease(GAME_ID);
+            waits.until(d -> cart.getQuantityForItem(GAME_ID) == 2);
+        });
+        step("checkout", () -> {
+            cart.clickCheckout();
+            waits.urlContains("/payment.html");
+        });
+        step("pay", () -> {
+            payment.fillValidPaymentDetails();
+            payment.clickPayNow();
+            waits.urlContains("/orders.html?success=1");
+        });
+        step("orders", () -> {
+            if (!orders.isSuccessBoxDisplayed()) {
+                throw new IllegalStateException("Success banner missing after payment");
+            }
+        });
+    }
+
+    private void step(String name, Runnable action) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            report.recordFailure(name, e);
+            throw e;
+        }
+        report.recordStep(name, System.nanoTime() - start);
+        think();
+    }
+
+    // Randomised between half and one and a half times the configured pause so users do not move in lockstep.
+    private void think() throws InterruptedException {
+        long millis = thinkTime.toMillis();
+        if (millis > 0) {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(millis / 2, millis + millis / 2 + 1));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.Load;
+
+import java.time.Duration;
+
+/**
+ * Shape of a load run: how many shoppers, how fast they join, how long they pause between steps and how long the
+ * run lasts. Defaults can be overridden with {@code -Dload.users}, {@code -Dload.rampup.seconds},
+ * {@code -Dload.think.ms} and {@code -Dload.duration.seconds}.
+ */
+public record LoadProfile(int users, Duration rampUp, Duration thinkTime, Duration duration) {
+
+    public LoadProfile {
+        if (users < 1) {
+            throw new IllegalArgumentException("load.users must be at least 1 but was " + users);
+        }
+        if (rampUp.isNegative() || thinkTime.isNegative() || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Load durations must be positive");
+        }
+    }
+
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Integer.getInteger("load.users", 4),
+                Duration.ofSeconds(Long.getLong("load.rampup.seconds", 10)),
+                Duration.ofMillis(Long.getLong("load.think.ms", 500)),
+                Duration.ofSeconds(Long.getLong("load.duration.seconds", 60)));
+    }
+
+    // Users join evenly spread over the ramp-up window; the first starts immediately.
+    public Duration startDelay(int userIndex) {
+        return rampUp.multipliedBy(userIndex).dividedBy(users);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.Load;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.example.Metrics.LatencyStats;
+
+/**
+ * Throughput and per-step latency of a load run. Safe to update from every virtual user at once.
+ */
+public final class LoadReport {
+
+    private final LoadProfile profile;
+    private final Map<String, LatencyStats> steps = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private final LongAdder checkouts = new LongAdder();
+    private volatile long elapsedNanos;
+
+    LoadReport(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    void recordStep(String step, long nanos) {
+        steps.computeIfAbsent(step, k -> new LatencyStats()).add(nanos);
+    }
+
+    void recordFailure(String step, Throwable error) {
+        failures.computeIfAbsent(step, k -> new LongAdder()).increment();
+    }
+
+    void recordCheckout() {
+        checkouts.increment();
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long checkouts() {
+        return checkouts.sum();
+    }
+
+    public long failures() {
+        return failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public double errorRate() {
+        long attempts = checkouts() + failures();
+        return attempts == 0 ? 0 : failures() / (double) attempts;
+    }
+
+    public double checkoutsPerMinute() {
+        return elapsedNanos == 0 ? 0 : checkouts() * 60_000.0 / LatencyStats.millis(elapsedNanos);
+    }
+
+    public String summary() {
+        StringBuilder out = new StringBuilder(String.format(
+                "Load run: %d users, %ds ramp-up, %dms think time, %.1fs elapsed%n"
+                        + "  checkouts %d (%.1f/min), failures %d (%.1f%%)%n"
+                        + "  %-12s %7s %9s %9s %9s %9s%n",
+                profile.users(), profile.rampUp().toSeconds(), profile.thinkTime().toMillis(),
+                LatencyStats.millis(elapsedNanos) / 1000.0, checkouts(), checkoutsPerMinute(), failures(),
+                errorRate() * 100, "step", "count", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        synchronized (steps) {
+            steps.forEach((step, stats) -> out.append(String.format("  %-12s %7d %9.1f %9.1f %9.1f %9.1f%n",
+                    step, stats.count(), LatencyStats.millis(stats.percentileNanos(50)),
+                    LatencyStats.millis(stats.percentileNanos(90)), LatencyStats.millis(stats.percentileNanos(99)),
+                    LatencyStats.millis(stats.maxNanos()))));
+        }
+        return out.toString();
+    }
+
+    public void writeCsv(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("step,count,failures,p50_ms,p90_ms,p99_ms,max_ms\n");
+            synchronized (steps) {
+                for (Map.Entry<String, LatencyStats> entry : steps.entrySet()) {
+                    LatencyStats stats = entry.getValue();
+                    out.write(String.format("%s,%d,%d,%.1f,%.1f,%.1f,%.1f%n", entry.getKey(), stats.count(),
+                            failures.getOrDefault(entry.getKey(), new LongAdder()).sum(),
+                            LatencyStats.millis(stats.percentileNanos(50)),
+                            LatencyStats.millis(stats.percentileNanos(90)),
+                            LatencyStats.millis(stats.percentileNanos(99)),
+                            LatencyStats.millis(stats.maxNanos())));
+                }
+            }
+            out.write(String.format("checkouts_per_minute,%d,%d,%.1f,,,%n", checkouts(), failures(),
+                    checkoutsPerMinute()));
+        }
+    }
+}
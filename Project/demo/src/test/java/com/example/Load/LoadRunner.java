@@ -0,0 +1,85 @@
+package com.example.Load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openqa.selenium.WebDriver;
+
+import com.example.Base.DriverFactory;
+import com.example.Support.HarnessThreads;
+
+/**
+ * Drives {@link LoadProfile#users()} concurrent shoppers, each in its own Chrome session, through the checkout
+ * funnel until the run's duration is up. Run headless ({@code -Dheadless}) for anything beyond a handful of users.
+ */
+public final class LoadRunner {
+
+    private static final Logger LOG = Logger.getLogger(LoadRunner.class.getName());
+
+    private final LoadProfile profile;
+    private final String baseUrl;
+
+    public LoadRunner(LoadProfile profile, String baseUrl) {
+        this.profile = profile;
+        this.baseUrl = baseUrl;
+    }
+
+    public LoadReport run() throws InterruptedException {
+        LoadReport report = new LoadReport(profile);
+        long start = System.nanoTime();
+        long deadline = start + profile.duration().toNanos();
+
+        ExecutorService users = HarnessThreads.newExecutor("load-user", profile.users());
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < profile.users(); i++) {
+                int index = i;
+                running.add(users.submit(() -> {
+                    shop(index, deadline, report);
+                    return null;
+                }));
+            }
+            for (Future<?> user : running) {
+                try {
+                    user.get();
+                } catch (ExecutionException e) {
+                    LOG.log(Level.WARNING, "Virtual user stopped early", e.getCause());
+                }
+            }
+        } finally {
+            users.shutdownNow();
+        }
+
+        report.finish(System.nanoTime() - start);
+        return report;
+    }
+
+    private void shop(int index, long deadline, LoadReport report) throws InterruptedException {
+        Thread.sleep(profile.startDelay(index).toMillis());
+        if (System.nanoTime() >= deadline) {
+            return;
+        }
+
+        WebDriver driver = DriverFactory.createChromeDriver();
+        try {
+            CheckoutJourney journey = new CheckoutJourney(driver, baseUrl, "load-user-" + index,
+                    profile.thinkTime(), report);
+            while (System.nanoTime() < deadline) {
+                try {
+                    journey.checkout();
+                    report.recordCheckout();
+                } catch (RuntimeException e) {
+                    // Already counted against the failing step; start the next iteration from the home page.
+                    LOG.log(Level.FINE, "Checkout failed for load-user-" + index, e);
+                }
+            }
+        } finally {
+            driver.quit();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.Logic;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.graalvm.polyglot.proxy.ProxyObject;
+
+import com.example.Domain.CartTotals;
+import com.example.Domain.Game;
+import com.example.Models.CartLine;
+import com.example.Server.StaticFileServer;
+
+/**
+ * Runs the pure functions of {@code js/app.js} in GraalJS, for logic checks that do not need Chrome.
+ *
+ * <p>The script is loaded unchanged except that its closing {@code init()} call is swapped for a hook that exposes
+ * the functions below, so no page handler runs. A small shim stands in for {@code localStorage}, {@code document}
+ * and timers: every {@code #id} selector returns a plain object recording {@code innerHTML} and {@code style}. One
+ * engine is shared, so {@code app.js} is parsed once; each thread gets its own context (contexts are single-threaded)
+ * and keeps it for every case it runs. Call {@link #reset()} between cases that touch storage.
+ */
+public final class AppLogic {
+
+    private static final String INIT_CALL = "\n  init();\n})();";
+    private static final String EXPORTS = "\n  globalThis.__gsLogic = {"
+            + " money, normalizeCardNumber, luhnCheck, parseExp, isExpValid, renderGames, getGames, isEmail,"
+            + " cartTotals: (cart) => cartTotals(cart, new Map(getGames().map((g) => [g.id, g]))),"
+            + " };\n})();";
+
+    private static final String SHIM_SCRIPT =
+            "(() => {"
+                    + "  const store = new Map();"
+                    + "  globalThis.localStorage = {"
+                    + "    getItem: (k) => (store.has(String(k)) ? store.get(String(k)) : null),"
+                    + "    setItem: (k, v) => { store.set(String(k), String(v)); },"
+                    + "    removeItem: (k) => { store.delete(String(k)); },"
+                    + "    clear: () => store.clear(),"
+                    + "    key: (i) => Array.from(store.keys())[i] ?? null,"
+                    + "    get length() { return store.size; },"
+                    + "  };"
+                    + "  const elements = new Map();"
+                    + "  const element = (id) => {"
+                    + "    if (!elements.has(id)) {"
+                    + "      elements.set(id, { id, innerHTML: '', textContent: '', value: '', style: {}, dataset: {},"
+                    + "        addEventListener() {}, setAttribute() {}, getAttribute: () => null, focus() {},"
+                    + "        remove() {}, appendChild() {}, classList: { add() {}, remove() {}, toggle() {} } });"
+                    + "    }"
+                    + "    return elements.get(id);"
+                    + "  };"
+                    + "  globalThis.document = {"
+                    + "    title: '', body: { dataset: {} },"
+                    + "    querySelector: (sel) => (String(sel).startsWith('#') ? element(String(sel).slice(1)) : null),"
+                    + "    querySelectorAll: () => [],"
+                    + "    getElementById: element,"
+                    + "    createElement: () => element('__created'),"
+                    + "  };"
+                    + "  globalThis.window = globalThis;"
+                    + "  globalThis.location = { search: '', href: '', replace() {} };"
+                    + "  globalThis.setTimeout = () => 0;"
+                    + "  globalThis.clearTimeout = () => {};"
+                    + "  globalThis.__gsElement = element;"
+                    + "  globalThis.__gsReset = () => { store.clear(); elements.clear(); };"
+                    + "})();";
+
+    private static final Pattern CARD_TITLE = Pattern.compile("<article class=\"game-card\" aria-label=\"([^\"]*)\"");
+
+    private static final Engine ENGINE = Engine.newBuilder()
+            .option("engine.WarnInterpreterOnly", "false")
+            .build();
+    private static final Source SHIM = Source.create("js", SHIM_SCRIPT);
+    private static final Source APP = loadApp(StaticFileServer.findSiteRoot().resolve("js/app.js"));
+
+    private static final ThreadLocal<AppLogic> CURRENT = ThreadLocal.withInitial(AppLogic::new);
+
+    private final Context context;
+    private final Value logic;
+    private final Value reset;
+    private final Value element;
+
+    private AppLogic() {
+        context = Context.newBuilder("js")
+                .engine(ENGINE)
+                // Pins money()'s undefined locale to en-US instead of the JVM default; the option is experimental.
+                .allowExperimentalOptions(true)
+                .option("js.locale", "en-US")
+                .build();
+        context.eval(SHIM);
+        context.eval(APP);
+        Value bindings = context.getBindings("js");
+        logic = bindings.getMember("__gsLogic");
+        reset = bindings.getMember("__gsReset");
+        element = bindings.getMember("__gsElement");
+    }
+
+    // The calling thread's instance, created on first use.
+    public static AppLogic current() {
+        return CURRENT.get();
+    }
+
+    // Empties the shimmed localStorage and DOM, so the next getGames() reseeds the catalog.
+    public void reset() {
+        reset.executeVoid();
+    }
+
+    public String money(double amount) {
+        return call("money", amount).asString();
+    }
+
+    public String normalizeCardNumber(String raw) {
+        return call("normalizeCardNumber", raw).asString();
+    }
+
+    public boolean luhnCheck(String digits) {
+        return call("luhnCheck", digits).asBoolean();
+    }
+
+    public Optional<YearMonth> parseExp(String mmYY) {
+        Value exp = call("parseExp", mmYY);
+        if (exp.isNull()) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.of(exp.getMember("year").asInt(), exp.getMember("mm").asInt()));
+    }
+
+    public boolean isExpValid(String mmYY) {
+        return call("isExpValid", mmYY).asBoolean();
+    }
+
+    public boolean isEmail(String text) {
+        return call("isEmail", text).asBoolean();
+    }
+
+    // cartTotals() against the catalog in the shimmed storage, converted to the Java oracle's shape for comparison.
+    public CartTotals cartTotals(List<CartLine> cart) {
+        Object[] items = cart.stream().map(line -> ProxyObject.fromMap(line.toStorage())).toArray();
+        Value totals = call("cartTotals", ProxyArray.fromArray(items));
+        List<CartTotals.Line> lines = new ArrayList<>();
+        Value jsLines = totals.getMember("lines");
+        for (long i = 0; i < jsLines.getArraySize(); i++) {
+            Value line = jsLines.getArrayElement(i);
+            Game game = new Game(line.getMember("gameId").asString(), line.getMember("title").asString(),
+                    BigDecimal.valueOf(line.getMember("price").asDouble()), line.getMember("genre").asString(),
+                    line.getMember("rating").asDouble());
+            lines.add(new CartTotals.Line(game, line.getMember("qty").asInt(), line.getMember("lineTotal").asDouble()));
+        }
+        return new CartTotals(lines, totals.getMember("total").asDouble());
+    }
+
+    // Titles of the cards renderGames() puts in #games-grid for the query, in render order.
+    public List<String> renderGames(String query) {
+        call("renderGames", call("getGames"), query);
+        Matcher matcher = CARD_TITLE.matcher(element.execute("games-grid").getMember("innerHTML").asString());
+        List<String> titles = new ArrayList<>();
+        while (matcher.find()) {
+            titles.add(matcher.group(1).replace("&amp;", "&"));
+        }
+        return titles;
+    }
+
+    public boolean isEmptyMessageShown() {
+        Value display = element.execute("empty").getMember("style").getMember("display");
+        return display != null && "block".equals(display.asString());
+    }
+
+    private Value call(String function, Object... args) {
+        return logic.getMember(function).execute(args);
+    }
+
+    private static Source loadApp(Path appJs) {
+        String script;
+        try {
+            script = Files.readString(appJs, StandardCharsets.UTF_8).replace("\r\n", "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + appJs, e);
+        }
+        int init = script.lastIndexOf(INIT_CALL);
+        if (init < 0) {
+            throw new IllegalStateException(appJs + " no longer ends with init(); update AppLogic's export hook");
+        }
+        try {
+            return Source.newBuilder("js", script.substring(0, init) + EXPORTS, "app.js").build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.Metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * Reads Chrome's {@code Performance.getMetrics} for the current tab: DOM {@code Nodes}, {@code JSHeapUsedSize},
+ * cumulative {@code LayoutDuration}, {@code RecalcStyleDuration} and {@code ScriptDuration} (seconds), and so on.
+ * Pass the undecorated session ({@code DriverManager.getSession()}); sessions without CDP report nothing.
+ */
+public final class BrowserMetrics {
+
+    private BrowserMetrics() {
+    }
+
+    // Enabling is idempotent, so every snapshot enables the domain for whichever tab is current.
+    @SuppressWarnings("unchecked")
+    public static Map<String, Double> snapshot(WebDriver session) {
+        Map<String, Double> metrics = new TreeMap<>();
+        if (!(session instanceof HasCdp)) {
+            return metrics;
+        }
+        HasCdp cdp = (HasCdp) session;
+        cdp.executeCdpCommand("Performance.enable", Map.of());
+        List<Map<String, Object>> raw = (List<Map<String, Object>>) cdp
+                .executeCdpCommand("Performance.getMetrics", Map.of()).get("metrics");
+        for (Map<String, Object> metric : raw) {
+            metrics.put((String) metric.get("name"), ((Number) metric.get("value")).doubleValue());
+        }
+        return metrics;
+    }
+
+    public static double get(Map<String, Double> metrics, String name) {
+        return metrics.getOrDefault(name, Double.NaN);
+    }
+
+    // Change of a cumulative metric between two snapshots; a navigation to a new renderer restarts the counters.
+    public static double delta(Map<String, Double> before, Map<String, Double> after, String name) {
+        double start = get(before, name);
+        double end = get(after, name);
+        return end >= start ? end - start : end;
+    }
+}
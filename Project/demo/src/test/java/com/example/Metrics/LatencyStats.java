@@ -0,0 +1,53 @@
+package com.example.Metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raw latency samples with nearest-rank percentiles. Sample counts here are small (per test or per load step),
+ * so keeping every value is cheaper and more exact than bucketing.
+ */
+public final class LatencyStats {
+
+    private long[] samples = new long[16];
+    private int count;
+    private long total;
+    private boolean sorted = true;
+
+    public synchronized void add(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        total += nanos;
+        sorted = false;
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    public synchronized long totalNanos() {
+        return total;
+    }
+
+    public synchronized long percentileNanos(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(samples, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return samples[Math.max(0, Math.min(count, rank) - 1)];
+    }
+
+    public long maxNanos() {
+        return percentileNanos(100);
+    }
+
+    public static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
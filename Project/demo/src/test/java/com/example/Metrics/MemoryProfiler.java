@@ -0,0 +1,279 @@
+package com.example.Metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Opt-in memory profile of every {@code BaseTest} test, enabled with {@code -Dmemory.profile=true}.
+ *
+ * <p>The JVM side runs a JFR recording with the {@code profile} settings for the whole suite. Allocation samples are
+ * attributed to the test running on the sampled thread at that moment, and heap-after-GC summaries to the tests
+ * running at that time. The browser side reads {@code Performance.getMetrics} and {@code performance.memory} after a
+ * forced renderer GC when the page is open and again before the session is released, so the difference is what the
+ * test left behind. A test that stayed on one page and grew its retained JS heap by {@code memory.profile.leak.kb}
+ * (512) or its DOM by {@code memory.profile.leak.nodes} (200) is flagged as a leak suspect.
+ *
+ * <p>Reports: {@code memory-profile.csv} per test, {@code memory-profile-summary.csv} per class and the raw
+ * {@code memory-profile.jfr} for JDK Mission Control.
+ */
+public final class MemoryProfiler {
+
+    private static final Logger LOG = Logger.getLogger(MemoryProfiler.class.getName());
+
+    private static final boolean ENABLED = Boolean.getBoolean("memory.profile");
+    private static final long LEAK_BYTES = Long.getLong("memory.profile.leak.kb", 512) * 1024;
+    private static final long LEAK_NODES = Long.getLong("memory.profile.leak.nodes", 200);
+    private static final double MB = 1024 * 1024;
+
+    private static final String PAGE_MEMORY_SCRIPT =
+            "const m = performance.memory;"
+                    + "return { page: location.pathname, used: m ? m.usedJSHeapSize : null,"
+                    + "  total: m ? m.totalJSHeapSize : null };";
+
+    private static final ThreadLocal<Window> CURRENT = new ThreadLocal<>();
+    private static final Queue<Window> WINDOWS = new ConcurrentLinkedQueue<>();
+
+    private static Recording recording;
+
+    private MemoryProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // Browser figures of one moment in a test.
+    private record BrowserSample(String page, double jsHeapUsed, double jsHeapTotal, double nodes, double listeners,
+            double documents) {
+    }
+
+    private static final class Window {
+        final String testClass;
+        final String test;
+        final long threadId = Thread.currentThread().getId();
+        final Instant start = Instant.now();
+        final BrowserSample browserStart;
+        Instant end;
+        BrowserSample browserEnd;
+        long jvmHeapUsedEnd;
+        long allocatedBytes;
+        long heapAfterGcPeak;
+
+        Window(String testClass, String test, BrowserSample browserStart) {
+            this.testClass = testClass;
+            this.test = test;
+            this.browserStart = browserStart;
+        }
+
+        boolean covers(long thread, Instant time) {
+            return thread == threadId && !time.isBefore(start) && !time.isAfter(end);
+        }
+
+        boolean overlaps(Instant time) {
+            return !time.isBefore(start) && !time.isAfter(end);
+        }
+
+        boolean leakSuspect() {
+            return browserStart != null && browserEnd != null && browserStart.page().equals(browserEnd.page())
+                    && (browserEnd.jsHeapUsed() - browserStart.jsHeapUsed() >= LEAK_BYTES
+                    || browserEnd.nodes() - browserStart.nodes() >= LEAK_NODES);
+        }
+    }
+
+    // Call once the test's page is open, on the test thread.
+    public static void begin(String testClass, String test, WebDriver session) {
+        if (!ENABLED) {
+            return;
+        }
+        startRecording();
+        CURRENT.set(new Window(testClass, test, sample(session)));
+    }
+
+    // Call before the session is released; closes the window opened by begin() on this thread.
+    public static void end(WebDriver session) {
+        Window window = CURRENT.get();
+        if (window == null) {
+            return;
+        }
+        CURRENT.remove();
+        window.browserEnd = sample(session);
+        window.jvmHeapUsedEnd = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        window.end = Instant.now();
+        WINDOWS.add(window);
+    }
+
+    public static void writeReports(Path recordingFile, Path perTest, Path perClass) throws IOException {
+        Recording finished;
+        synchronized (MemoryProfiler.class) {
+            finished = recording;
+            recording = null;
+        }
+        if (finished == null) {
+            return;
+        }
+        Files.createDirectories(recordingFile.toAbsolutePath().getParent());
+        finished.stop();
+        finished.dump(recordingFile);
+        finished.close();
+
+        List<Window> windows = new ArrayList<>(WINDOWS);
+        attributeJfrEvents(recordingFile, windows);
+        windows.sort((a, b) -> a.start.compareTo(b.start));
+
+        try (Writer out = Files.newBufferedWriter(perTest, StandardCharsets.UTF_8)) {
+            out.write("class,test,page_start,page_end,duration_ms,jvm_allocated_mb,jvm_heap_used_mb,"
+                    + "jvm_heap_after_gc_peak_mb,js_heap_start_mb,js_heap_end_mb,js_heap_total_end_mb,"
+                    + "nodes_start,nodes_end,listeners_start,listeners_end,documents_end,leak_suspect\n");
+            for (Window w : windows) {
+                BrowserSample s = orEmpty(w.browserStart);
+                BrowserSample e = orEmpty(w.browserEnd);
+                out.write(String.format(Locale.ROOT,
+                        "%s,%s,%s,%s,%d,%.2f,%.1f,%.1f,%.2f,%.2f,%.2f,%.0f,%.0f,%.0f,%.0f,%.0f,%b%n",
+                        w.testClass, w.test, s.page(), e.page(), Duration.between(w.start, w.end).toMillis(),
+                        w.allocatedBytes / MB, w.jvmHeapUsedEnd / MB, w.heapAfterGcPeak / MB,
+                        s.jsHeapUsed() / MB, e.jsHeapUsed() / MB, e.jsHeapTotal() / MB, s.nodes(), e.nodes(),
+                        s.listeners(), e.listeners(), e.documents(), w.leakSuspect()));
+            }
+        }
+
+        Map<String, List<Window>> byClass = new TreeMap<>();
+        for (Window w : windows) {
+            byClass.computeIfAbsent(w.testClass, k -> new ArrayList<>()).add(w);
+        }
+        try (Writer out = Files.newBufferedWriter(perClass, StandardCharsets.UTF_8)) {
+            out.write("class,tests,jvm_allocated_mb,jvm_alloc_rate_mb_s,jvm_heap_after_gc_peak_mb,"
+                    + "js_heap_peak_mb,js_heap_total_peak_mb,avg_js_heap_growth_kb,nodes_peak,leak_suspects\n");
+            for (Map.Entry<String, List<Window>> entry : byClass.entrySet()) {
+                List<Window> tests = entry.getValue();
+                long allocated = 0;
+                long millis = 0;
+                long heapPeak = 0;
+                double jsPeak = 0;
+                double jsTotalPeak = 0;
+                double growth = 0;
+                double nodesPeak = 0;
+                int suspects = 0;
+                for (Window w : tests) {
+                    BrowserSample e = orEmpty(w.browserEnd);
+                    allocated += w.allocatedBytes;
+                    millis += Duration.between(w.start, w.end).toMillis();
+                    heapPeak = Math.max(heapPeak, w.heapAfterGcPeak);
+                    jsPeak = Math.max(jsPeak, e.jsHeapUsed());
+                    jsTotalPeak = Math.max(jsTotalPeak, e.jsHeapTotal());
+                    growth += e.jsHeapUsed() - orEmpty(w.browserStart).jsHeapUsed();
+                    nodesPeak = Math.max(nodesPeak, e.nodes());
+                    suspects += w.leakSuspect() ? 1 : 0;
+                }
+                out.write(String.format(Locale.ROOT, "%s,%d,%.1f,%.2f,%.1f,%.2f,%.2f,%.1f,%.0f,%d%n", entry.getKey(),
+                        tests.size(), allocated / MB, millis == 0 ? 0 : allocated / MB / (millis / 1000.0),
+                        heapPeak / MB, jsPeak / MB, jsTotalPeak / MB, growth / tests.size() / 1024, nodesPeak,
+                        suspects));
+            }
+        }
+        LOG.info(String.format(Locale.ROOT, "Memory profile of %d tests written to %s", windows.size(), perClass));
+    }
+
+    private static synchronized void startRecording() {
+        if (recording != null) {
+            return;
+        }
+        try {
+            recording = new Recording(Configuration.getConfiguration("profile"));
+        } catch (IOException | ParseException e) {
+            LOG.log(Level.WARNING, "JFR profile settings unavailable; recording allocation and GC events only", e);
+            recording = new Recording();
+            recording.enable("jdk.ObjectAllocationSample");
+            recording.enable("jdk.GCHeapSummary");
+        }
+        recording.setName("memory-profile");
+        recording.setToDisk(true);
+        recording.start();
+    }
+
+    // One pass over the recording: allocation samples by thread and time, heap-after-GC summaries by time.
+    private static void attributeJfrEvents(Path recordingFile, List<Window> windows) throws IOException {
+        try (RecordingFile events = new RecordingFile(recordingFile)) {
+            while (events.hasMoreEvents()) {
+                RecordedEvent event = events.readEvent();
+                String type = event.getEventType().getName();
+                if ("jdk.ObjectAllocationSample".equals(type)) {
+                    RecordedThread thread = event.getThread("eventThread");
+                    if (thread == null) {
+                        continue;
+                    }
+                    for (Window w : windows) {
+                        if (w.covers(thread.getJavaThreadId(), event.getStartTime())) {
+                            w.allocatedBytes += event.getLong("weight");
+                            break;
+                        }
+                    }
+                } else if ("jdk.GCHeapSummary".equals(type) && "After GC".equals(event.getString("when"))) {
+                    long heapUsed = event.getLong("heapUsed");
+                    for (Window w : windows) {
+                        if (w.overlaps(event.getStartTime())) {
+                            w.heapAfterGcPeak = Math.max(w.heapAfterGcPeak, heapUsed);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Collects renderer garbage first, so the heap figures are what the page still holds.
+    @SuppressWarnings("unchecked")
+    private static BrowserSample sample(WebDriver session) {
+        if (!(session instanceof HasCdp)) {
+            return null;
+        }
+        try {
+            ((HasCdp) session).executeCdpCommand("HeapProfiler.collectGarbage", Map.of());
+            Map<String, Double> metrics = BrowserMetrics.snapshot(session);
+            Map<String, Object> page = (Map<String, Object>) ((JavascriptExecutor) session)
+                    .executeScript(PAGE_MEMORY_SCRIPT);
+            return new BrowserSample(String.valueOf(page.get("page")),
+                    number(page.get("used"), BrowserMetrics.get(metrics, "JSHeapUsedSize")),
+                    number(page.get("total"), BrowserMetrics.get(metrics, "JSHeapTotalSize")),
+                    BrowserMetrics.get(metrics, "Nodes"), BrowserMetrics.get(metrics, "JSEventListeners"),
+                    BrowserMetrics.get(metrics, "Documents"));
+        } catch (WebDriverException e) {
+            LOG.log(Level.FINE, "Could not sample browser memory", e);
+            return null;
+        }
+    }
+
+    private static double number(Object value, double fallback) {
+        return value instanceof Number ? ((Number) value).doubleValue() : fallback;
+    }
+
+    private static BrowserSample orEmpty(BrowserSample sample) {
+        return sample != null ? sample : new BrowserSample("", Double.NaN, Double.NaN, Double.NaN, Double.NaN,
+                Double.NaN);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.Metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import com.example.Base.DriverManager;
+
+import io.qameta.allure.Allure;
+
+/**
+ * Reads the page timings a test produced while its last page is still open and attaches them to Allure.
+ */
+public class PageTimingReporter implements IInvokedMethodListener {
+
+    private static final Logger LOG = Logger.getLogger(PageTimingReporter.class.getName());
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || !PageTimings.isEnabled() || !DriverManager.hasDriver()) {
+            return;
+        }
+        try {
+            List<Map<String, Object>> pages = PageTimings.collect(DriverManager.getSession());
+            if (pages.isEmpty()) {
+                return;
+            }
+            String testName = testResult.getTestClass().getRealClass().getSimpleName() + "." + method.getTestMethod()
+                    .getMethodName();
+            PageTimings.record(testName, pages);
+            Allure.addAttachment("Page timings", "application/json", new Json().toJson(pages), ".json");
+        } catch (WebDriverException e) {
+            LOG.log(Level.FINE, "Could not collect page timings", e);
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.Metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+/**
+ * Navigation timing, asset timings and LCP/CLS for every store page a test visits.
+ *
+ * <p>A script registered with {@code Page.addScriptToEvaluateOnNewDocument} observes each document from its first
+ * byte and, on {@code pagehide}, appends that page's figures to sessionStorage. Pages left through clicks or
+ * redirects are captured as well, and {@link #collect(WebDriver)} reads the whole test's history in one call.
+ * Disable with {@code -Dpage.timings=false}.
+ */
+public final class PageTimings {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("page.timings", "true"));
+    private static final String STORAGE_KEY = "__gs_perf";
+
+    private static final String OBSERVER_SCRIPT =
+            "(() => {"
+                    + "  if (window.__gsPerf) return;"
+                    + "  const vitals = { lcp: null, cls: 0 };"
+                    + "  try {"
+                    + "    new PerformanceObserver(list => {"
+                    + "      const entries = list.getEntries();"
+                    + "      const last = entries[entries.length - 1];"
+                    + "      if (last) vitals.lcp = last.renderTime || last.startTime;"
+                    + "    }).observe({ type: 'largest-contentful-paint', buffered: true });"
+                    + "  } catch (e) {}"
+                    + "  try {"
+                    + "    new PerformanceObserver(list => {"
+                    + "      for (const e of list.getEntries()) if (!e.hadRecentInput) vitals.cls += e.value;"
+                    + "    }).observe({ type: 'layout-shift', buffered: true });"
+                    + "  } catch (e) {}"
+                    + "  const assets = /\\/js\\/app\\.js|\\/css\\/styles\\.css|\\/resources\\/[^/?]+\\.svg/;"
+                    + "  window.__gsPerf = () => {"
+                    + "    const nav = performance.getEntriesByType('navigation')[0];"
+                    + "    return {"
+                    + "      page: location.pathname,"
+                    + "      ttfb: nav ? nav.responseStart - nav.startTime : null,"
+                    + "      domContentLoaded: nav ? nav.domContentLoadedEventEnd - nav.startTime : null,"
+                    + "      load: nav && nav.loadEventEnd ? nav.loadEventEnd - nav.startTime : null,"
+                    + "      lcp: vitals.lcp,"
+                    + "      cls: vitals.cls,"
+                    + "      resources: performance.getEntriesByType('resource')"
+                    + "        .filter(r => assets.test(r.name))"
+                    + "        .map(r => ({ name: new URL(r.name).pathname, duration: r.duration,"
+                    + "                     transferSize: r.transferSize }))"
+                    + "    };"
+                    + "  };"
+                    + "  addEventListener('pagehide', () => {"
+                    + "    try {"
+                    + "      const all = JSON.parse(sessionStorage.getItem('" + STORAGE_KEY + "') || '[]');"
+                    + "      all.push(window.__gsPerf());"
+                    + "      sessionStorage.setItem('" + STORAGE_KEY + "', JSON.stringify(all));"
+                    + "    } catch (e) {}"
+                    + "  });"
+                    + "})();";
+
+    private static final String COLLECT_SCRIPT =
+            "let all = [];"
+                    + "try {"
+                    + "  all = JSON.parse(sessionStorage.getItem('" + STORAGE_KEY + "') || '[]');"
+                    + "  sessionStorage.removeItem('" + STORAGE_KEY + "');"
+                    + "} catch (e) {}"
+                    + "if (window.__gsPerf) all.push(window.__gsPerf());"
+                    + "return all;";
+
+    private static final String HEADER =
+            "test,page,ttfb_ms,dom_content_loaded_ms,load_ms,lcp_ms,cls,app_js_ms,styles_css_ms,svg_count,svg_max_ms\n";
+
+    // Session -> tab the observer was registered on; the context lifecycle opens a new tab for every test.
+    private static final Map<WebDriver, String> INSTALLED = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Queue<String> SUITE_ROWS = new ConcurrentLinkedQueue<>();
+    private static final Map<String, LatencyStats> LOAD_BY_PAGE = Collections.synchronizedMap(new TreeMap<>());
+    private static final Map<String, LatencyStats> LCP_BY_PAGE = Collections.synchronizedMap(new TreeMap<>());
+
+    private PageTimings() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // Registers the observer once per tab; it then runs in every document loaded there.
+    public static void install(WebDriver session) {
+        if (!ENABLED || !(session instanceof HasCdp)) {
+            return;
+        }
+        String handle = session.getWindowHandle();
+        if (handle.equals(INSTALLED.put(session, handle))) {
+            return;
+        }
+        ((HasCdp) session).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                Map.of("source", OBSERVER_SCRIPT));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static List<Map<String, Object>> collect(WebDriver session) {
+        Object result = ((JavascriptExecutor) session).executeScript(COLLECT_SCRIPT);
+        return result instanceof List ? (List<Map<String, Object>>) result : List.of();
+    }
+
+    public static void record(String testName, List<Map<String, Object>> pages) {
+        for (Map<String, Object> page : pages) {
+            String path = String.valueOf(page.get("page"));
+            double appJs = -1;
+            double styles = -1;
+            int svgCount = 0;
+            double svgMax = 0;
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> resources =
+                    (List<Map<String, Object>>) page.getOrDefault("resources", List.of());
+            for (Map<String, Object> resource : resources) {
+                String name = String.valueOf(resource.get("name"));
+                double duration = number(resource.get("duration"));
+                if (name.endsWith("/js/app.js")) {
+                    appJs = duration;
+                } else if (name.endsWith("/css/styles.css")) {
+                    styles = duration;
+                } else if (name.endsWith(".svg")) {
+                    svgCount++;
+                    svgMax = Math.max(svgMax, duration);
+                }
+            }
+
+            double load = number(page.get("load"));
+            double lcp = number(page.get("lcp"));
+            if (load >= 0) {
+                LOAD_BY_PAGE.computeIfAbsent(path, k -> new LatencyStats()).add(nanos(load));
+            }
+            if (lcp >= 0) {
+                LCP_BY_PAGE.computeIfAbsent(path, k -> new LatencyStats()).add(nanos(lcp));
+            }
+            SUITE_ROWS.add(String.format("%s,%s,%.1f,%.1f,%.1f,%.1f,%.4f,%.1f,%.1f,%d,%.1f%n", testName, path,
+                    number(page.get("ttfb")), number(page.get("domContentLoaded")), load, lcp,
+                    number(page.get("cls")), appJs, styles, svgCount, svgMax));
+        }
+    }
+
+    // One row per page visit, then p50/p95 load and LCP per page across the suite.
+    public static void writeCsv(Path visits, Path summary) throws IOException {
+        if (SUITE_ROWS.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(visits.getParent());
+        try (Writer out = Files.newBufferedWriter(visits, StandardCharsets.UTF_8)) {
+            out.write(HEADER);
+            for (String row : SUITE_ROWS) {
+                out.write(row);
+            }
+        }
+        try (Writer out = Files.newBufferedWriter(summary, StandardCharsets.UTF_8)) {
+            out.write("page,visits,load_p50_ms,load_p95_ms,lcp_p50_ms,lcp_p95_ms\n");
+            synchronized (LOAD_BY_PAGE) {
+                for (Map.Entry<String, LatencyStats> entry : LOAD_BY_PAGE.entrySet()) {
+                    LatencyStats load = entry.getValue();
+                    LatencyStats lcp = LCP_BY_PAGE.getOrDefault(entry.getKey(), new LatencyStats());
+                    out.write(String.format("%s,%d,%.1f,%.1f,%.1f,%.1f%n", entry.getKey(), load.count(),
+                            LatencyStats.millis(load.percentileNanos(50)),
+                            LatencyStats.millis(load.percentileNanos(95)),
+                            LatencyStats.millis(lcp.percentileNanos(50)),
+                            LatencyStats.millis(lcp.percentileNanos(95))));
+                }
+            }
+        }
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : -1;
+    }
+
+    // The browser reports fractional milliseconds; LatencyStats holds nanoseconds.
+    private static long nanos(double millis) {
+        return Math.round(millis * TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.Metrics;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * Times the WebDriver commands that dominate suite time and hands them to {@link StepTimings}.
+ */
+class StepTimingListener implements WebDriverListener {
+
+    private static final Set<String> TIMED = Set.of("findElement", "findElements", "click", "sendKeys", "get",
+            "executeScript", "executeAsyncScript");
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (TIMED.contains(method.getName())) {
+            starts.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method.getName());
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method.getName());
+    }
+
+    private void finish(String operation) {
+        if (!TIMED.contains(operation)) {
+            return;
+        }
+        Long start = starts.get().poll();
+        if (start != null) {
+            StepTimings.record(operation, source(), System.nanoTime() - start);
+        }
+    }
+
+    // The page object or test method that issued the command, e.g. "CartPage.getGrandTotalText".
+    private static String source() {
+        return WALKER.walk(frames -> frames
+                .filter(f -> isSource(f.getClassName()))
+                .findFirst()
+                .map(f -> {
+                    String name = f.getClassName();
+                    name = name.substring(name.lastIndexOf('.') + 1);
+                    int nested = name.indexOf('$');
+                    return (nested < 0 ? name : name.substring(0, nested)) + "." + f.getMethodName();
+                })
+                .orElse("unknown"));
+    }
+
+    private static boolean isSource(String className) {
+        return className.startsWith("com.example.")
+                && !className.startsWith("com.example.Metrics.")
+                && !className.startsWith("com.example.Base.")
+                && !className.startsWith("com.example.Support.");
+    }
+}
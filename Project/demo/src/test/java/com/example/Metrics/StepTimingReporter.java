@@ -0,0 +1,25 @@
+package com.example.Metrics;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import io.qameta.allure.Allure;
+
+/**
+ * Attaches each test's WebDriver step timings to its Allure result. Runs before the test result is reported,
+ * so the attachment lands on the test rather than on the teardown fixture.
+ */
+public class StepTimingReporter implements IInvokedMethodListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        String csv = StepTimings.finish();
+        if (csv != null) {
+            Allure.addAttachment("WebDriver step timings", "text/csv", csv, ".csv");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.Metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+/**
+ * Per-test latency of WebDriver commands, grouped by operation and the page object that issued them.
+ *
+ * <p>{@code BaseTest} decorates each session with {@link #decorate(WebDriver)} and calls {@link #begin(String)};
+ * {@link StepTimingReporter} closes the test and attaches its table to Allure. Disable with
+ * {@code -Dstep.timings=false}.
+ */
+public final class StepTimings {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("step.timings", "true"));
+    private static final String HEADER = "test,operation,source,count,p50_ms,p95_ms,max_ms,total_ms\n";
+
+    private static final StepTimingListener LISTENER = new StepTimingListener();
+    private static final ThreadLocal<TestSteps> CURRENT = new ThreadLocal<>();
+    private static final Queue<String> SUITE_ROWS = new ConcurrentLinkedQueue<>();
+
+    private StepTimings() {
+    }
+
+    public static WebDriver decorate(WebDriver session) {
+        if (!ENABLED) {
+            return session;
+        }
+        return new EventFiringDecorator<>(LISTENER).decorate(session);
+    }
+
+    public static void begin(String testName) {
+        if (ENABLED) {
+            CURRENT.set(new TestSteps(testName));
+        }
+    }
+
+    static void record(String operation, String source, long nanos) {
+        TestSteps steps = CURRENT.get();
+        if (steps != null) {
+            steps.stats.computeIfAbsent(operation + '\u0000' + source, k -> new LatencyStats()).add(nanos);
+        }
+    }
+
+    // Closes the current test and returns its CSV table, or null if nothing was recorded.
+    public static String finish() {
+        TestSteps steps = CURRENT.get();
+        CURRENT.remove();
+        if (steps == null || steps.stats.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder csv = new StringBuilder(HEADER);
+        steps.stats.forEach((key, stats) -> {
+            int split = key.indexOf('\u0000');
+            String row = String.format("%s,%s,%s,%d,%.1f,%.1f,%.1f,%.1f%n", steps.testName, key.substring(0, split),
+                    key.substring(split + 1), stats.count(), LatencyStats.millis(stats.percentileNanos(50)),
+                    LatencyStats.millis(stats.percentileNanos(95)), LatencyStats.millis(stats.maxNanos()),
+                    LatencyStats.millis(stats.totalNanos()));
+            csv.append(row);
+            SUITE_ROWS.add(row);
+        });
+        return csv.toString();
+    }
+
+    public static void writeCsv(Path file) throws IOException {
+        if (SUITE_ROWS.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(HEADER);
+            for (String row : SUITE_ROWS) {
+                out.write(row);
+            }
+        }
+    }
+
+    private static final class TestSteps {
+
+        private final String testName;
+        private final Map<String, LatencyStats> stats = new LinkedHashMap<>();
+
+        private TestSteps(String testName) {
+            this.testName = testName;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.Models;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One entry of {@code gs_cart_v1_user_<id>}.
+ */
+public record CartLine(String gameId, int qty, Instant addedAt) {
+
+    public static CartLine of(String gameId, int qty) {
+        return new CartLine(gameId, qty, Instant.now());
+    }
+
+    public Map<String, Object> toStorage() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("gameId", gameId);
+        map.put("qty", qty);
+        map.put("addedAt", addedAt.toString());
+        return map;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.Models;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Everything the cart page shows, read in one script call by {@code CartPage.snapshot()}.
+ */
+public record CartSnapshot(List<Line> lines, String grandTotalText, boolean emptyMessageVisible,
+        boolean footerVisible) {
+
+    public record Line(String gameId, String title, int qty, String lineTotalText) {
+    }
+
+    public CartSnapshot {
+        lines = List.copyOf(lines);
+    }
+
+    public int itemCount() {
+        return lines.size();
+    }
+
+    public Optional<Line> line(String gameId) {
+        return lines.stream().filter(l -> l.gameId().equals(gameId)).findFirst();
+    }
+
+    public boolean contains(String gameId) {
+        return line(gameId).isPresent();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static CartSnapshot fromScript(Object result) {
+        Map<String, Object> raw = (Map<String, Object>) result;
+        List<Line> lines = new ArrayList<>();
+        for (Map<String, Object> line : (List<Map<String, Object>>) raw.get("lines")) {
+            lines.add(new Line((String) line.get("gameId"), (String) line.get("title"),
+                    Integer.parseInt(((String) line.get("qty")).trim()), (String) line.get("lineTotal")));
+        }
+        return new CartSnapshot(lines, (String) raw.get("grandTotal"), Boolean.TRUE.equals(raw.get("emptyVisible")),
+                Boolean.TRUE.equals(raw.get("footerVisible")));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.Models;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One entry of {@code gs_orders_v1_user_<id>}, shaped like the orders {@code paymentPage()} writes.
+ */
+public record Order(String orderId, Instant createdAt, List<OrderItem> items, String last4, String cardholder,
+        String billingCity, String billingCountry) {
+
+    private static final DateTimeFormatter ID_DATE = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+
+    public Order {
+        items = List.copyOf(items);
+    }
+
+    public static Order of(String suffix, OrderItem... items) {
+        Instant now = Instant.now();
+        return new Order("GS-" + ID_DATE.format(now) + "-" + suffix, now, List.of(items), "1111", "Alex Gamer",
+                "Hyderabad", "India");
+    }
+
+    public BigDecimal total() {
+        return items.stream()
+                .map(item -> item.price().multiply(BigDecimal.valueOf(item.qty())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public Map<String, Object> toStorage() {
+        List<Map<String, Object>> storedItems = new ArrayList<>();
+        for (OrderItem item : items) {
+            storedItems.add(item.toStorage());
+        }
+
+        Map<String, Object> payment = new LinkedHashMap<>();
+        payment.put("method", "card");
+        payment.put("last4", last4);
+        payment.put("cardholder", cardholder);
+        payment.put("billingCity", billingCity);
+        payment.put("billingCountry", billingCountry);
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("orderId", orderId);
+        map.put("createdAt", createdAt.toString());
+        map.put("total", total().doubleValue());
+        map.put("items", storedItems);
+        map.put("payment", payment);
+        return map;
+    }
+
+    // Shape of gs_last_success_v1_user_<id>, read by the orders page banner.
+    public Map<String, Object> toLastSuccess() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("orderId", orderId);
+        map.put("createdAt", createdAt.toString());
+        map.put("total", total().doubleValue());
+        return map;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.Models;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record OrderItem(String gameId, String title, BigDecimal price, int qty) {
+
+    public Map<String, Object> toStorage() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("gameId", gameId);
+        map.put("title", title);
+        map.put("price", price.doubleValue());
+        map.put("qty", qty);
+        return map;
+    }
+}
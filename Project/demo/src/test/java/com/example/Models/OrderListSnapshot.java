@@ -0,0 +1,42 @@
+package com.example.Models;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the orders page shows, read in one script call by {@code OrdersPage.snapshot()}.
+ */
+public record OrderListSnapshot(List<Entry> orders, boolean noOrdersVisible, boolean successVisible,
+        String successMessage) {
+
+    public record Entry(String orderId, String metaText, String priceText, int itemCount) {
+    }
+
+    public OrderListSnapshot {
+        orders = List.copyOf(orders);
+    }
+
+    public int orderCount() {
+        return orders.size();
+    }
+
+    public Entry first() {
+        if (orders.isEmpty()) {
+            throw new IllegalStateException("No orders rendered");
+        }
+        return orders.get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static OrderListSnapshot fromScript(Object result) {
+        Map<String, Object> raw = (Map<String, Object>) result;
+        List<Entry> orders = new ArrayList<>();
+        for (Map<String, Object> order : (List<Map<String, Object>>) raw.get("orders")) {
+            orders.add(new Entry((String) order.get("orderId"), (String) order.get("meta"),
+                    (String) order.get("price"), ((Number) order.get("itemCount")).intValue()));
+        }
+        return new OrderListSnapshot(orders, Boolean.TRUE.equals(raw.get("noOrdersVisible")),
+                Boolean.TRUE.equals(raw.get("successVisible")), (String) raw.get("successMessage"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.Models;
+
+/**
+ * Values for the payment form. {@code country} is the visible option text; empty leaves "Select" chosen.
+ */
+public record PaymentDetails(String cardholderName, String cardNumber, String expiry, String cvv,
+        String billingAddress, String city, String zip, String country) {
+
+    public static PaymentDetails valid() {
+        return new PaymentDetails("Alex Gamer", "4111111111111111", "12/30", "123", "221B Baker Street",
+                "Hyderabad", "500001", "India");
+    }
+
+    public PaymentDetails withCardholderName(String value) {
+        return new PaymentDetails(value, cardNumber, expiry, cvv, billingAddress, city, zip, country);
+    }
+
+    public PaymentDetails withCardNumber(String value) {
+        return new PaymentDetails(cardholderName, value, expiry, cvv, billingAddress, city, zip, country);
+    }
+
+    public PaymentDetails withExpiry(String value) {
+        return new PaymentDetails(cardholderName, cardNumber, value, cvv, billingAddress, city, zip, country);
+    }
+
+    public PaymentDetails withCvv(String value) {
+        return new PaymentDetails(cardholderName, cardNumber, expiry, value, billingAddress, city, zip, country);
+    }
+
+    public PaymentDetails withBillingAddress(String value) {
+        return new PaymentDetails(cardholderName, cardNumber, expiry, cvv, value, city, zip, country);
+    }
+
+    public PaymentDetails withCity(String value) {
+        return new PaymentDetails(cardholderName, cardNumber, expiry, cvv, billingAddress, value, zip, country);
+    }
+
+    public PaymentDetails withZip(String value) {
+        return new PaymentDetails(cardholderName, cardNumber, expiry, cvv, billingAddress, city, value, country);
+    }
+
+    public PaymentDetails withCountry(String value) {
+        return new PaymentDetails(cardholderName, cardNumber, expiry, cvv, billingAddress, city, zip, value);
+    }
+}
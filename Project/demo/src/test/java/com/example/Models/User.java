@@ -0,0 +1,49 @@
+package com.example.Models;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An account in {@code gs_users_v1}. The hash matches {@code sha256Hex} in app.js, so seeded users can log in.
+ */
+public record User(String id, String name, String email, String passwordHash, Instant createdAt) {
+
+    public static User withPassword(String id, String name, String email, String password) {
+        return new User(id, name, email.trim().toLowerCase(), sha256Hex(password), Instant.now());
+    }
+
+    public Map<String, Object> toStorage() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", id);
+        map.put("name", name);
+        map.put("email", email);
+        map.put("passwordHash", passwordHash);
+        map.put("createdAt", createdAt.toString());
+        return map;
+    }
+
+    // Shape of gs_session_v1 for this user.
+    public Map<String, Object> toSession() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("userId", id);
+        map.put("email", email);
+        map.put("name", name);
+        map.put("token", "demo_fixture");
+        map.put("createdAt", Instant.now().toString());
+        return map;
+    }
+
+    private static String sha256Hex(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
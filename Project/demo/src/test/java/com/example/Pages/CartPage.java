@@ -4,9 +4,30 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 
+import com.example.Models.CartSnapshot;
+import com.example.Support.WaitEngine;
+
 public class CartPage {
 
+    private static final String SNAPSHOT_SCRIPT =
+            "const shown = el => !!el && getComputedStyle(el).visibility !== 'hidden'"
+                    + "  && el.getClientRects().length > 0;"
+                    + "const text = el => shown(el) ? el.innerText.trim() : '';"
+                    + "const lines = Array.from(document.querySelectorAll('.cart-item')).map(row => ({"
+                    + "  gameId: row.getAttribute('data-id'),"
+                    + "  title: text(row.querySelector('h3')),"
+                    + "  qty: row.querySelector('.count').textContent,"
+                    + "  lineTotal: text(row.querySelector('.price'))"
+                    + "}));"
+                    + "return {"
+                    + "  lines: lines,"
+                    + "  grandTotal: text(document.getElementById('grand-total')),"
+                    + "  emptyVisible: shown(document.getElementById('empty-cart')),"
+                    + "  footerVisible: shown(document.getElementById('cart-footer'))"
+                    + "};";
+
     private final WebDriver driver;
+    private final WaitEngine waits;
 
     private final By pageTitle = By.className("page-title");
     private final By cartList = By.id("cart-list");
@@ -18,6 +39,7 @@ public class CartPage {
 
     public CartPage(WebDriver driver) {
         this.driver = driver;
+        this.waits = new WaitEngine(driver);
     }
 
     public void setLoggedInUser(String userId) {
@@ -42,7 +64,7 @@ public class CartPage {
 
     public void addGameToCartFromGamePage(String baseUrl, String gameId) {
         driver.get(baseUrl + "/game.html?id=" + gameId);
-        driver.findElement(By.id("add-to-cart")).click();
+        waits.clickable(By.id("add-to-cart")).click();
     }
 
     public void reload() {
@@ -50,64 +72,69 @@ public class CartPage {
     }
 
     public String getPageTitleText() {
-        return driver.findElement(pageTitle).getText();
+        return waits.present(pageTitle).getText();
     }
 
     public boolean isCartListDisplayed() {
-        return driver.findElement(cartList).isDisplayed();
+        return waits.present(cartList).isDisplayed();
     }
 
     public boolean isCartListPresent() {
-        return !driver.findElements(cartList).isEmpty();
+        return waits.isPresent(cartList);
     }
 
     public boolean isEmptyCartMessageDisplayed() {
-        return driver.findElement(emptyCart).isDisplayed();
+        return waits.present(emptyCart).isDisplayed();
     }
 
     public boolean isCartFooterDisplayed() {
-        return driver.findElement(cartFooter).isDisplayed();
+        return waits.present(cartFooter).isDisplayed();
     }
 
     public int getCartItemsCount() {
-        return driver.findElements(cartItems).size();
+        return waits.all(cartItems).size();
     }
 
     public boolean isCartItemPresent(String gameId) {
-        return !driver.findElements(By.cssSelector(".cart-item[data-id='" + gameId + "']")).isEmpty();
+        return waits.isPresent(By.cssSelector(".cart-item[data-id='" + gameId + "']"));
     }
 
     public String getGrandTotalText() {
-        return driver.findElement(grandTotal).getText();
+        return waits.present(grandTotal).getText();
     }
 
     public int getQuantityForItem(String gameId) {
-        String qty = driver.findElement(
+        String qty = waits.present(
                 By.cssSelector(".cart-item[data-id='" + gameId + "'] .count")
         ).getText();
         return Integer.parseInt(qty.trim());
     }
 
     public void clickIncrease(String gameId) {
-        driver.findElement(
+        waits.clickable(
                 By.cssSelector(".cart-item[data-id='" + gameId + "'] button[data-act='inc']")
         ).click();
     }
 
     public void clickDecrease(String gameId) {
-        driver.findElement(
+        waits.clickable(
                 By.cssSelector(".cart-item[data-id='" + gameId + "'] button[data-act='dec']")
         ).click();
     }
 
     public void clickRemove(String gameId) {
-        driver.findElement(
+        waits.clickable(
                 By.cssSelector(".cart-item[data-id='" + gameId + "'] button[data-act='rm']")
         ).click();
     }
 
     public void clickCheckout() {
-        driver.findElement(checkoutButton).click();
+        waits.clickable(checkoutButton).click();
+    }
+
+    // Whole cart state in one round trip; assert against the record instead of calling getters one by one.
+    public CartSnapshot snapshot() {
+        return CartSnapshot.fromScript(((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT));
     }
 
     public String getCurrentUrl() {
@@ -1,20 +1,17 @@
 package com.example.Pages;
 
-import java.time.Duration;
-
 import org.openqa.selenium.By;
-import org.openqa.selenium.ElementNotInteractableException;
 import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.example.Support.ElementActions;
+import com.example.Support.WaitEngine;
 
 public class HomePage {
 
     WebDriver driver;
-    private final WebDriverWait wait;
+    private final WaitEngine waits;
+    private final ElementActions actions;
 
     // ===== Locators =====
     private By navBar = By.id("nav");
@@ -32,61 +29,42 @@ public class HomePage {
     // ===== Constructor =====
     public HomePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+        this.waits = new WaitEngine(driver);
+        this.actions = new ElementActions(driver, waits);
     }
 
     // ===== Actions =====
 
     public boolean isNavBarDisplayed() {
-        return driver.findElement(navBar).isDisplayed();
+        return waits.present(navBar).isDisplayed();
     }
 
     public String getPageTitleText() {
-        return driver.findElement(pageTitle).getText();
+        return waits.present(pageTitle).getText();
     }
 
     public boolean isSearchBoxDisplayed() {
-        return driver.findElement(searchBox).isDisplayed();
+        return waits.present(searchBox).isDisplayed();
     }
 
     public boolean isResetButtonDisplayed() {
-        return driver.findElement(resetButton).isDisplayed();
+        return waits.present(resetButton).isDisplayed();
     }
 
     public boolean isSearchBoxEnabled() {
-        return driver.findElement(searchBox).isEnabled();
+        return waits.present(searchBox).isEnabled();
     }
 
     public void searchGame(String text) {
-        for (int attempt = 0; attempt < 3; attempt++) {
-            try {
-                WebElement search = wait.until(ExpectedConditions.elementToBeClickable(searchBox));
-                ((JavascriptExecutor) driver).executeScript(
-                        "arguments[0].value = arguments[1];"
-                                + "arguments[0].dispatchEvent(new Event('input', { bubbles: true }));"
-                                + "arguments[0].dispatchEvent(new Event('change', { bubbles: true }));",
-                        search, text
-                );
-                return;
-            } catch (StaleElementReferenceException | ElementNotInteractableException ignored) {
-                // The app re-renders frequently; retry by resolving the element again.
-            }
-        }
-        WebElement search = wait.until(ExpectedConditions.elementToBeClickable(searchBox));
-        ((JavascriptExecutor) driver).executeScript(
-                "arguments[0].value = arguments[1];"
-                        + "arguments[0].dispatchEvent(new Event('input', { bubbles: true }));"
-                        + "arguments[0].dispatchEvent(new Event('change', { bubbles: true }));",
-                search, text
-        );
+        actions.setValue(searchBox, text);
     }
 
     public void clickReset() {
-        wait.until(ExpectedConditions.elementToBeClickable(resetButton)).click();
+        waits.clickable(resetButton).click();
     }
 
     public boolean isGamesGridDisplayed() {
-        return driver.findElement(gamesGrid).isDisplayed();
+        return waits.present(gamesGrid).isDisplayed();
     }
 
     public boolean isEmptyMessageVisible() {
@@ -99,17 +77,23 @@ public class HomePage {
         return Boolean.TRUE.equals(visible);
     }
 
+    // Counted in the page: at catalog scale, findElements would ship every card back as a WebElement.
+    public long getRenderedGameCount() {
+        Object count = ((JavascriptExecutor) driver).executeScript(
+                "return document.querySelectorAll('#games-grid .game-card').length;");
+        return ((Number) count).longValue();
+    }
+
     public boolean isToastContainerPresent() {
-        return !driver.findElements(toastContainer).isEmpty();
+        return waits.isPresent(toastContainer);
     }
 
     public String getSearchValue() {
-        return wait.until(ExpectedConditions.presenceOfElementLocated(searchBox))
-                .getAttribute("value");
+        return waits.present(searchBox).getAttribute("value");
     }
 
     public String getSubtitleText() {
-        return driver.findElement(subtitle).getText();
+        return waits.present(subtitle).getText();
     }
 
     public String getCurrentUrl() {
@@ -4,9 +4,30 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 
+import com.example.Models.OrderListSnapshot;
+import com.example.Support.WaitEngine;
+
 public class OrdersPage {
 
+    private static final String SNAPSHOT_SCRIPT =
+            "const shown = el => !!el && getComputedStyle(el).visibility !== 'hidden'"
+                    + "  && el.getClientRects().length > 0;"
+                    + "const text = el => shown(el) ? el.innerText.trim() : '';"
+                    + "const orders = Array.from(document.querySelectorAll('.order')).map(card => ({"
+                    + "  orderId: text(card.querySelector('.order-id')),"
+                    + "  meta: text(card.querySelector('.order-meta')),"
+                    + "  price: text(card.querySelector('.price')),"
+                    + "  itemCount: card.querySelectorAll('.order-item').length"
+                    + "}));"
+                    + "return {"
+                    + "  orders: orders,"
+                    + "  noOrdersVisible: shown(document.getElementById('no-orders')),"
+                    + "  successVisible: shown(document.getElementById('orders-success')),"
+                    + "  successMessage: text(document.getElementById('orders-success-msg'))"
+                    + "};";
+
     private final WebDriver driver;
+    private final WaitEngine waits;
 
     private final By pageTitle = By.className("page-title");
     private final By noOrders = By.id("no-orders");
@@ -20,6 +41,7 @@ public class OrdersPage {
 
     public OrdersPage(WebDriver driver) {
         this.driver = driver;
+        this.waits = new WaitEngine(driver);
     }
 
     public void setLoggedInUser(String userId) {
@@ -63,39 +85,44 @@ public class OrdersPage {
     }
 
     public String getPageTitleText() {
-        return driver.findElement(pageTitle).getText();
+        return waits.present(pageTitle).getText();
     }
 
     public boolean isNoOrdersMessageDisplayed() {
-        return driver.findElement(noOrders).isDisplayed();
+        return waits.present(noOrders).isDisplayed();
     }
 
     public int getRenderedOrderCount() {
-        return driver.findElements(orderCards).size();
+        return waits.all(orderCards).size();
     }
 
     public String getFirstOrderIdText() {
-        return driver.findElement(firstOrderId).getText();
+        return waits.present(firstOrderId).getText();
     }
 
     public String getFirstOrderMetaText() {
-        return driver.findElement(firstOrderMeta).getText();
+        return waits.present(firstOrderMeta).getText();
     }
 
     public String getFirstOrderPriceText() {
-        return driver.findElement(firstOrderPrice).getText();
+        return waits.present(firstOrderPrice).getText();
     }
 
     public int getFirstOrderItemsCount() {
-        return driver.findElements(firstOrderItems).size();
+        return waits.all(firstOrderItems).size();
     }
 
     public boolean isSuccessBoxDisplayed() {
-        return driver.findElement(successBox).isDisplayed();
+        return waits.present(successBox).isDisplayed();
     }
 
     public String getSuccessMessageText() {
-        return driver.findElement(successMessage).getText();
+        return waits.present(successMessage).getText();
+    }
+
+    // Whole order list in one round trip; assert against the record instead of calling getters one by one.
+    public OrderListSnapshot snapshot() {
+        return OrderListSnapshot.fromScript(((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT));
     }
 
     public String getCurrentUrl() {
@@ -1,13 +1,58 @@
 package com.example.Pages;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
 
+import com.example.Models.PaymentDetails;
+import com.example.Support.WaitEngine;
+
 public class PaymentPage {
 
+    // How fill() writes the form: one script for everything, or real keystrokes per field.
+    public enum FillMode {
+        BATCHED,
+        TYPING
+    }
+
+    // Sets each field and fires input/change so app.js formatters run exactly as they do for typing.
+    private static final String FILL_SCRIPT =
+            "const values = arguments[0];"
+                    + "const fire = el => {"
+                    + "  el.dispatchEvent(new Event('input', { bubbles: true }));"
+                    + "  el.dispatchEvent(new Event('change', { bubbles: true }));"
+                    + "};"
+                    + "Object.keys(values).forEach(id => {"
+                    + "  const el = document.getElementById(id);"
+                    + "  if (!el) throw new Error('No payment field #' + id);"
+                    + "  el.value = values[id];"
+                    + "  fire(el);"
+                    + "});"
+                    + "const country = document.getElementById('country');"
+                    + "const wanted = arguments[1];"
+                    + "if (wanted) {"
+                    + "  const option = Array.from(country.options).find(o => o.text.trim() === wanted);"
+                    + "  if (!option) throw new Error('Cannot locate country option: ' + wanted);"
+                    + "  country.value = option.value;"
+                    + "} else {"
+                    + "  country.value = '';"
+                    + "}"
+                    + "fire(country);";
+
+    // Puts the form back to its initial state and hides the last validation message without reloading the page.
+    private static final String RESET_SCRIPT =
+            "document.getElementById('payment-form').reset();"
+                    + "const msg = document.getElementById('pay-msg');"
+                    + "msg.textContent = '';"
+                    + "msg.style.display = 'none';";
+
     private final WebDriver driver;
+    private final WaitEngine waits;
 
     private final By pageTitle = By.className("page-title");
     private final By paymentForm = By.id("payment-form");
@@ -29,6 +74,7 @@ public class PaymentPage {
 
     public PaymentPage(WebDriver driver) {
         this.driver = driver;
+        this.waits = new WaitEngine(driver);
     }
 
     public void setLoggedInUser(String userId) {
@@ -53,106 +99,134 @@ public class PaymentPage {
 
     public void addGameToCartFromGamePage(String baseUrl, String gameId) {
         driver.get(baseUrl + "/game.html?id=" + gameId);
-        driver.findElement(By.id("add-to-cart")).click();
+        waits.clickable(By.id("add-to-cart")).click();
     }
 
     public void goToPaymentFromCart(String baseUrl) {
         driver.get(baseUrl + "/cart.html");
-        driver.findElement(checkoutButton).click();
+        waits.clickable(checkoutButton).click();
     }
 
     public String getPageTitleText() {
-        return driver.findElement(pageTitle).getText();
+        return waits.present(pageTitle).getText();
     }
 
     public boolean isPaymentFormDisplayed() {
-        return driver.findElement(paymentForm).isDisplayed();
+        return waits.present(paymentForm).isDisplayed();
     }
 
     public boolean isNoCartMessageDisplayed() {
-        return driver.findElement(noCartMessage).isDisplayed();
+        return waits.present(noCartMessage).isDisplayed();
     }
 
     public int getOrderItemsCount() {
-        return driver.findElements(orderItems).size();
+        return waits.all(orderItems).size();
     }
 
     public String getOrderTotalText() {
-        return driver.findElement(orderTotal).getText();
+        return waits.present(orderTotal).getText();
     }
 
     public void enterCardNumber(String value) {
-        driver.findElement(cardNumber).clear();
-        driver.findElement(cardNumber).sendKeys(value);
+        type(cardNumber, value);
     }
 
     public String getCardNumberValue() {
-        return driver.findElement(cardNumber).getAttribute("value");
+        return waits.present(cardNumber).getAttribute("value");
     }
 
     public void enterExpiry(String value) {
-        driver.findElement(exp).clear();
-        driver.findElement(exp).sendKeys(value);
+        type(exp, value);
     }
 
     public String getExpiryValue() {
-        return driver.findElement(exp).getAttribute("value");
+        return waits.present(exp).getAttribute("value");
     }
 
     public void enterCvv(String value) {
-        driver.findElement(cvv).clear();
-        driver.findElement(cvv).sendKeys(value);
+        type(cvv, value);
     }
 
     public String getCvvValue() {
-        return driver.findElement(cvv).getAttribute("value");
+        return waits.present(cvv).getAttribute("value");
     }
 
     public void enterCardholderName(String value) {
-        driver.findElement(cardName).clear();
-        driver.findElement(cardName).sendKeys(value);
+        type(cardName, value);
     }
 
     public void enterBillingAddress(String value) {
-        driver.findElement(billing).clear();
-        driver.findElement(billing).sendKeys(value);
+        type(billing, value);
     }
 
     public void enterCity(String value) {
-        driver.findElement(city).clear();
-        driver.findElement(city).sendKeys(value);
+        type(city, value);
     }
 
     public void enterZip(String value) {
-        driver.findElement(zip).clear();
-        driver.findElement(zip).sendKeys(value);
+        type(zip, value);
     }
 
     public void selectCountry(String visibleText) {
-        Select select = new Select(driver.findElement(country));
+        Select select = new Select(waits.present(country));
         select.selectByVisibleText(visibleText);
     }
 
     public void clickPayNow() {
-        driver.findElement(payButton).click();
+        waits.clickable(payButton).click();
     }
 
     public String getPayMessage() {
-        return driver.findElement(payMessage).getText();
+        return waits.present(payMessage).getText();
+    }
+
+    public void resetForm() {
+        waits.present(paymentForm);
+        ((JavascriptExecutor) driver).executeScript(RESET_SCRIPT);
     }
 
     public void fillValidPaymentDetails() {
-        enterCardholderName("Alex Gamer");
-        enterCardNumber("4111111111111111");
-        enterExpiry("12/30");
-        enterCvv("123");
-        enterBillingAddress("221B Baker Street");
-        enterCity("Hyderabad");
-        enterZip("500001");
-        selectCountry("India");
+        fill(PaymentDetails.valid());
+    }
+
+    public void fill(PaymentDetails details) {
+        fill(details, FillMode.BATCHED);
+    }
+
+    public void fill(PaymentDetails details, FillMode mode) {
+        if (mode == FillMode.TYPING) {
+            enterCardholderName(details.cardholderName());
+            enterCardNumber(details.cardNumber());
+            enterExpiry(details.expiry());
+            enterCvv(details.cvv());
+            enterBillingAddress(details.billingAddress());
+            enterCity(details.city());
+            enterZip(details.zip());
+            if (details.country() != null && !details.country().isEmpty()) {
+                selectCountry(details.country());
+            }
+            return;
+        }
+
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("card-name", details.cardholderName());
+        values.put("card-number", details.cardNumber());
+        values.put("exp", details.expiry());
+        values.put("cvv", details.cvv());
+        values.put("billing", details.billingAddress());
+        values.put("city", details.city());
+        values.put("zip", details.zip());
+        waits.present(paymentForm);
+        ((JavascriptExecutor) driver).executeScript(FILL_SCRIPT, values, details.country());
     }
 
     public String getCurrentUrl() {
         return driver.getCurrentUrl();
     }
+
+    private void type(By locator, String value) {
+        WebElement field = waits.present(locator);
+        field.clear();
+        field.sendKeys(value);
+    }
 }
@@ -0,0 +1,218 @@
+package com.example.Reporting;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.openqa.selenium.json.JsonOutput;
+
+/**
+ * Folds a run's {@code allure-results} into a persisted history store and feeds Allure only what it needs.
+ *
+ * <p>The store ({@code -Dallure.history.dir}, default {@code target/allure-history}; CI keeps it in the Actions
+ * cache) holds:
+ * <ul>
+ *   <li>{@code history.jsonl}: one compact line per test result, append-only;</li>
+ *   <li>{@code history.json} / {@code history-trend.json}: Allure's history and trend widgets, updated in place for
+ *       the tests that ran instead of being rebuilt from every past result;</li>
+ *   <li>{@code state.json}: the newest result already folded in, so re-running over the same directory is a no-op.</li>
+ * </ul>
+ * Both widgets keep the last {@code allure.history.runs} runs (20). They are copied into
+ * {@code allure-results/history} so {@code allure:report} renders trends from a single run's results. Attachments
+ * over {@code allure.attachment.max.kb} (512) are shrunk first.
+ *
+ * <pre>
+ * java -cp target/test-classes:$(cat target/test-classpath.txt) com.example.Reporting.AllureHistory
+ * mvn allure:report
+ * </pre>
+ */
+public final class AllureHistory {
+
+    private static final int MAX_RUNS = Integer.getInteger("allure.history.runs", 20);
+    private static final long MAX_ATTACHMENT_BYTES = Long.getLong("allure.attachment.max.kb", 512) * 1024;
+
+    private static final Json JSON = new Json();
+    private static final List<String> STATUSES = List.of("failed", "broken", "skipped", "passed", "unknown");
+
+    private final Path results;
+    private final Path store;
+
+    AllureHistory(Path results, Path store) {
+        this.results = results;
+        this.store = store;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path results = Paths.get(System.getProperty("allure.results.directory", "target/allure-results"));
+        Path store = Paths.get(System.getProperty("allure.history.dir", "target/allure-history"));
+        String runName = System.getProperty("allure.run.name",
+                System.getenv().getOrDefault("GITHUB_RUN_NUMBER", String.valueOf(System.currentTimeMillis())));
+        new AllureHistory(results, store).process(runName, System.getProperty("allure.report.url", ""));
+    }
+
+    void process(String runName, String reportUrl) throws IOException {
+        if (!Files.isDirectory(results)) {
+            System.out.println("No Allure results in " + results);
+            return;
+        }
+        Files.createDirectories(store);
+
+        AttachmentLimiter limiter = new AttachmentLimiter(MAX_ATTACHMENT_BYTES);
+        List<Map<String, Object>> fresh = new ArrayList<>();
+        Map<String, Object> state = readMap(store.resolve("state.json"));
+        long processedUntil = asLong(state.get("lastStop"));
+        long newestStop = processedUntil;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(results)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.contains("-attachment")) {
+                    limiter.limit(file);
+                } else if (name.endsWith("-result.json")) {
+                    Map<String, Object> result = readMap(file);
+                    long stop = asLong(result.get("stop"));
+                    if (stop > processedUntil && result.get("historyId") != null) {
+                        fresh.add(result);
+                        newestStop = Math.max(newestStop, stop);
+                    }
+                }
+            }
+        }
+
+        if (!fresh.isEmpty()) {
+            appendLog(runName, fresh);
+            Map<String, Long> totals = updateHistory(fresh, reportUrl);
+            updateTrend(runName, reportUrl, totals);
+            state.put("lastStop", newestStop);
+            state.put("lastRun", runName);
+            Files.writeString(store.resolve("state.json"), compact(state), StandardCharsets.UTF_8);
+        }
+
+        Path widgets = results.resolve("history");
+        Files.createDirectories(widgets);
+        for (String widget : List.of("history.json", "history-trend.json")) {
+            if (Files.exists(store.resolve(widget))) {
+                Files.copy(store.resolve(widget), widgets.resolve(widget),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        System.out.printf("Allure history: %d new results folded into %s, %d attachments trimmed (%d KB saved)%n",
+                fresh.size(), store, limiter.trimmed(), limiter.savedBytes() / 1024);
+    }
+
+    private void appendLog(String runName, List<Map<String, Object>> fresh) throws IOException {
+        try (Writer out = Files.newBufferedWriter(store.resolve("history.jsonl"), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (Map<String, Object> result : fresh) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("run", runName);
+                line.put("historyId", result.get("historyId"));
+                line.put("fullName", result.get("fullName"));
+                line.put("status", result.get("status"));
+                line.put("start", result.get("start"));
+                line.put("stop", result.get("stop"));
+                out.write(compact(line));
+                out.write('\n');
+            }
+        }
+    }
+
+    // Touches only the entries of tests in this run; everything else in history.json is carried over untouched.
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> updateHistory(List<Map<String, Object>> fresh, String reportUrl) throws IOException {
+        Path file = store.resolve("history.json");
+        Map<String, Object> history = readMap(file);
+        Map<String, Long> totals = new LinkedHashMap<>();
+        STATUSES.forEach(s -> totals.put(s, 0L));
+
+        for (Map<String, Object> result : fresh) {
+            String status = STATUSES.contains(String.valueOf(result.get("status")))
+                    ? String.valueOf(result.get("status")) : "unknown";
+            totals.merge(status, 1L, Long::sum);
+
+            Map<String, Object> entry = (Map<String, Object>) history.computeIfAbsent(
+                    String.valueOf(result.get("historyId")), k -> new LinkedHashMap<>());
+            List<Object> items = new ArrayList<>((List<Object>) entry.getOrDefault("items", List.of()));
+            Map<String, Object> item = new LinkedHashMap<>();
+            long start = asLong(result.get("start"));
+            long stop = asLong(result.get("stop"));
+            item.put("uid", result.get("uuid"));
+            item.put("reportUrl", reportUrl.isEmpty() ? "" : reportUrl + "/#testresult/" + result.get("uuid"));
+            item.put("status", status);
+            item.put("time", Map.of("start", start, "stop", stop, "duration", stop - start));
+            items.add(0, item);
+            while (items.size() > MAX_RUNS) {
+                items.remove(items.size() - 1);
+            }
+
+            Map<String, Object> statistic = new LinkedHashMap<>();
+            STATUSES.forEach(s -> statistic.put(s, 0L));
+            for (Object kept : items) {
+                statistic.merge(String.valueOf(((Map<String, Object>) kept).get("status")), 1L,
+                        (a, b) -> (Long) a + (Long) b);
+            }
+            statistic.put("total", (long) items.size());
+            entry.put("statistic", statistic);
+            entry.put("items", items);
+        }
+
+        Files.writeString(file, compact(history), StandardCharsets.UTF_8);
+        totals.put("total", (long) fresh.size());
+        return totals;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void updateTrend(String runName, String reportUrl, Map<String, Long> totals) throws IOException {
+        Path file = store.resolve("history-trend.json");
+        List<Object> trend = Files.exists(file)
+                ? new ArrayList<>(JSON.toType(Files.readString(file, StandardCharsets.UTF_8), List.class))
+                : new ArrayList<>();
+        long buildOrder = trend.isEmpty() ? 1 : asLong(((Map<String, Object>) trend.get(0)).get("buildOrder")) + 1;
+        Map<String, Object> point = new LinkedHashMap<>();
+        point.put("buildOrder", buildOrder);
+        point.put("reportName", runName);
+        point.put("reportUrl", reportUrl);
+        point.put("data", totals);
+        trend.add(0, point);
+        while (trend.size() > MAX_RUNS) {
+            trend.remove(trend.size() - 1);
+        }
+        Files.writeString(file, compact(trend), StandardCharsets.UTF_8);
+    }
+
+    private static String compact(Object value) {
+        StringBuilder out = new StringBuilder();
+        try (JsonOutput json = JSON.newOutput(out)) {
+            json.setPrettyPrint(false).write(value);
+        }
+        return out.toString();
+    }
+
+    private static Map<String, Object> readMap(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new LinkedHashMap<>();
+        }
+        try {
+            return new LinkedHashMap<>(JSON.toType(Files.readString(file, StandardCharsets.UTF_8), Json.MAP_TYPE));
+        } catch (JsonException e) {
+            throw new IOException("Could not parse " + file, e);
+        }
+    }
+
+    private static long asLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+}
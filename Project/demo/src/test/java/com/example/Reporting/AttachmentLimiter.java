@@ -0,0 +1,87 @@
+package com.example.Reporting;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Keeps Allure attachments under a size cap so the published report does not grow with every screenshot.
+ * Images are downscaled until they fit; text is cut with a marker. Other binaries are left alone.
+ */
+final class AttachmentLimiter {
+
+    private static final Set<String> TEXT = Set.of("txt", "log", "csv", "json", "html", "xml");
+    private static final Set<String> IMAGES = Set.of("png", "jpg", "jpeg");
+
+    private final long maxBytes;
+    private int trimmed;
+    private long savedBytes;
+
+    AttachmentLimiter(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    void limit(Path attachment) throws IOException {
+        long size = Files.size(attachment);
+        if (size <= maxBytes) {
+            return;
+        }
+        String name = attachment.getFileName().toString();
+        String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        if (TEXT.contains(extension)) {
+            truncate(attachment);
+        } else if (IMAGES.contains(extension)) {
+            downscale(attachment, extension);
+        } else {
+            return;
+        }
+        trimmed++;
+        savedBytes += size - Files.size(attachment);
+    }
+
+    int trimmed() {
+        return trimmed;
+    }
+
+    long savedBytes() {
+        return savedBytes;
+    }
+
+    private void truncate(Path attachment) throws IOException {
+        byte[] head = new byte[(int) Math.min(Integer.MAX_VALUE, maxBytes)];
+        try (var in = Files.newInputStream(attachment)) {
+            int read = in.readNBytes(head, 0, head.length);
+            String text = new String(head, 0, read, StandardCharsets.UTF_8);
+            Files.writeString(attachment, text + "\n... truncated at " + maxBytes / 1024 + " KB by AllureHistory\n",
+                    StandardCharsets.UTF_8);
+        }
+    }
+
+    private void downscale(Path attachment, String format) throws IOException {
+        BufferedImage image = ImageIO.read(attachment.toFile());
+        if (image == null) {
+            return;
+        }
+        // Encoded size scales roughly with pixel count; shrink both sides and retry until it fits.
+        double scale = Math.sqrt((double) maxBytes / Files.size(attachment));
+        for (int attempt = 0; attempt < 4 && Files.size(attachment) > maxBytes; attempt++) {
+            int width = Math.max(1, (int) (image.getWidth() * scale));
+            int height = Math.max(1, (int) (image.getHeight() * scale));
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+            graphics.dispose();
+            ImageIO.write(scaled, format.equals("jpeg") ? "jpg" : format, attachment.toFile());
+            scale *= 0.75;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.Reporting;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import com.example.Base.DriverManager;
+import com.example.Base.FlakeListener;
+import com.example.Support.HarnessThreads;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+
+/**
+ * On a failed test, quarantined ones included, attaches a screenshot, the page's outerHTML, the store's
+ * {@code gs_*} localStorage keys and the browser console to the Allure result.
+ *
+ * <p>Passing tests pay nothing. For failures the test thread only collects the raw strings (one screenshot, one
+ * script call, one log read) and reserves the attachment slots; base64 decoding, JSON formatting and gzip of large
+ * DOMs happen on a background executor while the session moves on. {@code HarnessSuiteListener} waits for pending
+ * writes before the suite ends. Disable with {@code -Dfailure.artifacts=false}.
+ */
+public class FailureArtifacts implements IInvokedMethodListener {
+
+    private static final Logger LOG = Logger.getLogger(FailureArtifacts.class.getName());
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("failure.artifacts", "true"));
+    private static final long DOM_GZIP_BYTES = Long.getLong("failure.dom.gzip.kb", 256) * 1024;
+
+    private static final String CAPTURE_SCRIPT =
+            "const store = {};"
+                    + "try {"
+                    + "  Object.keys(localStorage).filter(k => /^gs_/.test(k)).sort()"
+                    + "    .forEach(k => store[k] = localStorage.getItem(k));"
+                    + "} catch (e) {}"
+                    + "return { dom: document.documentElement.outerHTML, store: store };";
+
+    private static final ExecutorService ENCODER = HarnessThreads.newExecutor("failure-artifacts", 2);
+    private static final Queue<Future<?>> PENDING = new ConcurrentLinkedQueue<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!ENABLED || !method.isTestMethod() || !failed(testResult) || !DriverManager.hasDriver()) {
+            return;
+        }
+        WebDriver session = DriverManager.getSession();
+
+        String screenshot = capture("screenshot", () -> ((TakesScreenshot) session).getScreenshotAs(OutputType.BASE64));
+        Map<String, Object> page = capture("DOM and storage",
+                () -> (Map<String, Object>) ((JavascriptExecutor) session).executeScript(CAPTURE_SCRIPT));
+        List<LogEntry> console = capture("console log", () -> session.manage().logs().get(LogType.BROWSER)
+                .getAll().stream()
+                .filter(entry -> entry.getTimestamp() >= testResult.getStartMillis())
+                .collect(Collectors.toList()));
+
+        // Slots are reserved on the test thread, where Allure knows the current test; bytes follow asynchronously.
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (screenshot != null) {
+            String source = lifecycle.prepareAttachment("Screenshot", "image/png", ".png");
+            submit(lifecycle, source, () -> Base64.getDecoder().decode(screenshot));
+        }
+        if (page != null) {
+            String dom = String.valueOf(page.get("dom"));
+            if (dom.length() > DOM_GZIP_BYTES) {
+                String source = lifecycle.prepareAttachment("DOM (gzip)", "application/gzip", ".html.gz");
+                submit(lifecycle, source, () -> gzip(dom));
+            } else {
+                String source = lifecycle.prepareAttachment("DOM", "text/html", ".html");
+                submit(lifecycle, source, () -> dom.getBytes(StandardCharsets.UTF_8));
+            }
+            Map<String, Object> store = (Map<String, Object>) page.get("store");
+            String source = lifecycle.prepareAttachment("localStorage gs_*", "application/json", ".json");
+            submit(lifecycle, source, () -> storeJson(store).getBytes(StandardCharsets.UTF_8));
+        }
+        if (console != null && !console.isEmpty()) {
+            String source = lifecycle.prepareAttachment("Browser console", "text/plain", ".txt");
+            submit(lifecycle, source, () -> consoleText(console).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // A quarantined failure may already have been turned into a skip by FlakeListener; it still gets artifacts.
+    private static boolean failed(ITestResult testResult) {
+        return testResult.getStatus() == ITestResult.FAILURE
+                || Boolean.TRUE.equals(testResult.getAttribute(FlakeListener.QUARANTINED_ATTRIBUTE));
+    }
+
+    public static void awaitPending(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        Future<?> write;
+        while ((write = PENDING.poll()) != null) {
+            try {
+                write.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException e) {
+                LOG.log(Level.WARNING, "Failure artifact was not written", e);
+            }
+        }
+    }
+
+    private static void submit(AllureLifecycle lifecycle, String source, Supplier<byte[]> encode) {
+        PENDING.add(ENCODER.submit(() -> {
+            try (InputStream in = new ByteArrayInputStream(encode.get())) {
+                lifecycle.writeAttachment(source, in);
+            }
+            return null;
+        }));
+    }
+
+    private static <T> T capture(String what, Supplier<T> capture) {
+        try {
+            return capture.get();
+        } catch (WebDriverException | ClassCastException e) {
+            LOG.log(Level.FINE, "Could not capture " + what, e);
+            return null;
+        }
+    }
+
+    private static byte[] gzip(String text) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Values are stored as JSON strings by app.js; expand them so the attachment reads as one document.
+    private static String storeJson(Map<String, Object> store) {
+        Json json = new Json();
+        Map<String, Object> expanded = new LinkedHashMap<>();
+        store.forEach((key, value) -> {
+            try {
+                expanded.put(key, json.toType(String.valueOf(value), Object.class));
+            } catch (JsonException e) {
+                expanded.put(key, value);
+            }
+        });
+        return json.toJson(expanded);
+    }
+
+    private static String consoleText(List<LogEntry> entries) {
+        StringBuilder out = new StringBuilder();
+        for (LogEntry entry : entries) {
+            out.append(Instant.ofEpochMilli(entry.getTimestamp())).append(' ')
+                    .append(entry.getLevel()).append(' ')
+                    .append(entry.getMessage()).append('\n');
+        }
+        return out.toString();
+    }
+}
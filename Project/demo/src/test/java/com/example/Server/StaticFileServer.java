@@ -0,0 +1,256 @@
+package com.example.Server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import com.example.Support.HarnessThreads;
+
+/**
+ * In-process static file server for the store pages, replacing the external {@code python -m http.server}.
+ *
+ * <p>Binds to an ephemeral loopback port, so it is listening before {@link #start(Path)} returns. Files are read
+ * once and kept in memory together with a gzip variant for text types, so repeated page loads across the suite
+ * never touch the disk.
+ */
+public final class StaticFileServer {
+
+    public static final String DEFAULT_BASE_URL = "http://127.0.0.1:5501";
+
+    private static final int MAX_AGE_SECONDS = Integer.getInteger("static.server.max-age", 300);
+
+    private static final Map<String, String> CONTENT_TYPES = Map.ofEntries(
+            Map.entry("html", "text/html; charset=utf-8"),
+            Map.entry("js", "text/javascript; charset=utf-8"),
+            Map.entry("css", "text/css; charset=utf-8"),
+            Map.entry("json", "application/json; charset=utf-8"),
+            Map.entry("svg", "image/svg+xml"),
+            Map.entry("png", "image/png"),
+            Map.entry("jpg", "image/jpeg"),
+            Map.entry("jpeg", "image/jpeg"),
+            Map.entry("gif", "image/gif"),
+            Map.entry("webp", "image/webp"),
+            Map.entry("ico", "image/x-icon"),
+            Map.entry("woff2", "font/woff2"),
+            Map.entry("pdf", "application/pdf"));
+
+    private static StaticFileServer shared;
+    // base.url as it was before startForSuite() pointed it at the shared server.
+    private static String replacedBaseUrl;
+
+    private final Path root;
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final Map<Path, CachedFile> cache = new ConcurrentHashMap<>();
+
+    private StaticFileServer(Path root, HttpServer server, ExecutorService workers) {
+        this.root = root;
+        this.server = server;
+        this.workers = workers;
+    }
+
+    public static StaticFileServer start(Path root) throws IOException {
+        Path normalizedRoot = root.toAbsolutePath().normalize();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 64);
+        ExecutorService workers = HarnessThreads.newExecutor("static-server",
+                Math.max(4, Runtime.getRuntime().availableProcessors()));
+        StaticFileServer staticServer = new StaticFileServer(normalizedRoot, server, workers);
+        server.createContext("/", staticServer::handle);
+        server.setExecutor(workers);
+        server.start();
+        return staticServer;
+    }
+
+    /**
+     * Starts the shared server for the suite and points {@code base.url} at it, unless the run was given an
+     * explicit {@code base.url} or {@code -Dstatic.server=false}.
+     */
+    public static synchronized void startForSuite() {
+        if (shared != null) {
+            return;
+        }
+        String mode = System.getProperty("static.server", "auto");
+        boolean explicitUrl = System.getProperty("base.url") != null;
+        if ("false".equalsIgnoreCase(mode) || ("auto".equalsIgnoreCase(mode) && explicitUrl)) {
+            return;
+        }
+        try {
+            shared = start(findSiteRoot());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start static file server", e);
+        }
+        replacedBaseUrl = System.setProperty("base.url", shared.baseUrl());
+    }
+
+    // Hands base.url back, so a later suite in the same JVM starts its own server instead of using a dead port.
+    public static synchronized void stopForSuite() {
+        if (shared != null) {
+            if (shared.baseUrl().equals(System.getProperty("base.url"))) {
+                if (replacedBaseUrl != null) {
+                    System.setProperty("base.url", replacedBaseUrl);
+                } else {
+                    System.clearProperty("base.url");
+                }
+            }
+            replacedBaseUrl = null;
+            shared.stop();
+            shared = null;
+        }
+    }
+
+    // Read on every call: startForSuite() sets base.url after test classes are loaded.
+    public static String suiteBaseUrl() {
+        return System.getProperty("base.url", DEFAULT_BASE_URL);
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    public void stop() {
+        server.stop(0);
+        workers.shutdownNow();
+    }
+
+    // Walks up from the working directory to the folder holding index.html and js/app.js.
+    public static Path findSiteRoot() {
+        String configured = System.getProperty("static.root");
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        Path dir = Paths.get("").toAbsolutePath();
+        while (dir != null) {
+            if (Files.isRegularFile(dir.resolve("index.html")) && Files.isRegularFile(dir.resolve("js/app.js"))) {
+                return dir;
+            }
+            dir = dir.getParent();
+        }
+        throw new IllegalStateException("Could not find the store's index.html above "
+                + Paths.get("").toAbsolutePath() + "; set -Dstatic.root");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            boolean head = "HEAD".equals(method);
+            if (!head && !"GET".equals(method)) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            Path file = resolve(exchange.getRequestURI());
+            if (file == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            CachedFile cached = cache.computeIfAbsent(file, StaticFileServer::load);
+            Headers headers = exchange.getResponseHeaders();
+            headers.set("Content-Type", cached.contentType);
+            headers.set("ETag", cached.etag);
+            headers.set("Cache-Control", "public, max-age=" + MAX_AGE_SECONDS);
+            headers.set("Vary", "Accept-Encoding");
+
+            if (cached.etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            byte[] body = cached.body;
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            if (cached.gzipped != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                body = cached.gzipped;
+                headers.set("Content-Encoding", "gzip");
+            }
+
+            if (head) {
+                headers.set("Content-Length", String.valueOf(body.length));
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private Path resolve(URI uri) {
+        String path = uri.getPath();
+        if (path == null || path.isEmpty() || path.endsWith("/")) {
+            path = (path == null ? "/" : path) + "index.html";
+        }
+        Path file = root.resolve(path.substring(1)).normalize();
+        if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+            return null;
+        }
+        return file;
+    }
+
+    private static CachedFile load(Path file) {
+        try {
+            byte[] body = Files.readAllBytes(file);
+            String contentType = contentType(file);
+            byte[] gzipped = isCompressible(contentType) ? gzip(body) : null;
+            return new CachedFile(body, gzipped, contentType, etag(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String contentType(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String extension = dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+    }
+
+    private static boolean isCompressible(String contentType) {
+        return contentType.startsWith("text/") || contentType.startsWith("application/json")
+                || contentType.startsWith("image/svg+xml");
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 3 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 8) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedFile(byte[] body, byte[] gzipped, String contentType, String etag) {
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.Sharding;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+/**
+ * Splits a suite's test methods into K shards of similar predicted runtime and writes one TestNG suite per shard.
+ *
+ * <p>Methods are placed longest first, each onto the currently lightest shard (LPT bin packing), which keeps the
+ * slowest shard within a few percent of the mean for suites of this size. Listeners, parameters and the
+ * {@code <test>} blocks are copied from the source suite, so every shard still reports to Allure, writes the harness
+ * timing files and groups its methods the way the full suite does.
+ */
+final class ShardPlanner {
+
+    private static final Pattern SUITE_CLASS = Pattern.compile("<class name=\"([\\w.]+)\"");
+    private static final Pattern TEST_METHOD = Pattern.compile("@Test\\b[^\\n]*\\n(?:\\s*@[^\\n]*\\n)*\\s*public void (\\w+)\\(");
+
+    record Method(String className, String name, double seconds) {
+    }
+
+    record Shard(int index, List<Method> methods, double seconds) {
+    }
+
+    private ShardPlanner() {
+    }
+
+    // Suite classes in order, each with the @Test methods found in its source.
+    static Map<String, List<String>> discover(Path suite, Path testSourceRoot) throws IOException {
+        Map<String, List<String>> methods = new LinkedHashMap<>();
+        Matcher suiteClass = SUITE_CLASS.matcher(Files.readString(suite, StandardCharsets.UTF_8));
+        while (suiteClass.find()) {
+            String className = suiteClass.group(1);
+            Path source = testSourceRoot.resolve(className.replace('.', '/') + ".java");
+            List<String> names = new ArrayList<>();
+            if (Files.isRegularFile(source)) {
+                Matcher testMethod = TEST_METHOD.matcher(Files.readString(source, StandardCharsets.UTF_8));
+                while (testMethod.find()) {
+                    names.add(testMethod.group(1));
+                }
+            }
+            methods.put(className, names);
+        }
+        return methods;
+    }
+
+    static List<Shard> plan(Map<String, List<String>> testMethods, TestDurations durations, int shardCount) {
+        List<Method> all = new ArrayList<>();
+        testMethods.forEach((className, names) -> names.forEach(
+                name -> all.add(new Method(className, name, durations.estimate(className, name)))));
+        all.sort(Comparator.comparingDouble(Method::seconds).reversed()
+                .thenComparing(Method::className).thenComparing(Method::name));
+
+        List<List<Method>> bins = new ArrayList<>();
+        double[] loads = new double[shardCount];
+        PriorityQueue<Integer> lightest = new PriorityQueue<>(
+                Comparator.<Integer>comparingDouble(i -> loads[i]).thenComparing(i -> i));
+        for (int i = 0; i < shardCount; i++) {
+            bins.add(new ArrayList<>());
+            lightest.add(i);
+        }
+        for (Method method : all) {
+            int target = lightest.poll();
+            bins.get(target).add(method);
+            loads[target] += method.seconds();
+            lightest.add(target);
+        }
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new Shard(i + 1, bins.get(i), loads[i]));
+        }
+        return shards;
+    }
+
+    // One <test> per source <test>, with its attributes and parameters, holding only this shard's methods.
+    static Path write(Shard shard, Path sourceSuite, Path outDir) throws IOException {
+        Element suite = parse(sourceSuite);
+
+        Map<String, List<String>> byClass = new LinkedHashMap<>();
+        shard.methods().stream()
+                .sorted(Comparator.comparing(Method::className).thenComparing(Method::name))
+                .forEach(m -> byClass.computeIfAbsent(m.className(), k -> new ArrayList<>()).add(m.name()));
+
+        StringBuilder xml = new StringBuilder()
+                .append("<!DOCTYPE suite SYSTEM \"https://testng.org/testng-1.0.dtd\">\n\n")
+                .append(String.format("<!-- Shard %d, predicted %.1f s -->%n", shard.index(), shard.seconds()))
+                .append("<suite").append(attributes(suite, "name"))
+                .append(" name=\"").append(escape(suite.getAttribute("name"))).append("-shard-")
+                .append(shard.index()).append("\">\n");
+        for (Element listeners : children(suite, "listeners")) {
+            xml.append("    <listeners>\n");
+            for (Element listener : children(listeners, "listener")) {
+                xml.append("        <listener").append(attributes(listener, null)).append("/>\n");
+            }
+            xml.append("    </listeners>\n");
+        }
+        appendParameters(xml, suite, "    ");
+
+        for (Element test : children(suite, "test")) {
+            StringBuilder classes = new StringBuilder();
+            for (Element classList : children(test, "classes")) {
+                for (Element testClass : children(classList, "class")) {
+                    List<String> names = byClass.get(testClass.getAttribute("name"));
+                    if (names == null) {
+                        continue;
+                    }
+                    classes.append("            <class").append(attributes(testClass, null)).append(">\n")
+                            .append("                <methods>\n");
+                    names.forEach(name -> classes.append("                    <include name=\"")
+                            .append(escape(name)).append("\"/>\n"));
+                    classes.append("                </methods>\n")
+                            .append("            </class>\n");
+                }
+            }
+            if (classes.length() == 0) {
+                continue;
+            }
+            xml.append("    <test").append(attributes(test, null)).append(">\n");
+            appendParameters(xml, test, "        ");
+            xml.append("        <classes>\n").append(classes).append("        </classes>\n")
+                    .append("    </test>\n");
+        }
+        xml.append("</suite>\n");
+
+        Files.createDirectories(outDir);
+        Path file = outDir.resolve("shard-" + shard.index() + ".xml");
+        Files.writeString(file, xml, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static Element parse(Path suite) throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            return factory.newDocumentBuilder().parse(suite.toFile()).getDocumentElement();
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Could not parse " + suite, e);
+        }
+    }
+
+    private static List<Element> children(Element parent, String tag) {
+        List<Element> elements = new ArrayList<>();
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element && ((Element) node).getTagName().equals(tag)) {
+                elements.add((Element) node);
+            }
+        }
+        return elements;
+    }
+
+    private static void appendParameters(StringBuilder xml, Element parent, String indent) {
+        for (Element parameter : children(parent, "parameter")) {
+            xml.append(indent).append("<parameter").append(attributes(parameter, null)).append("/>\n");
+        }
+    }
+
+    private static String attributes(Element element, String skip) {
+        StringBuilder out = new StringBuilder();
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Node attribute = attributes.item(i);
+            if (!attribute.getNodeName().equals(skip)) {
+                out.append(' ').append(attribute.getNodeName()).append("=\"")
+                        .append(escape(attribute.getNodeValue())).append('"');
+            }
+        }
+        return out.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("\"", "&quot;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.Sharding;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes balanced shard suites from historical durations and, with {@code --run}, runs them side by side in forked
+ * JVMs on this machine.
+ *
+ * <pre>
+ * cd Project/demo
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test-classpath.txt
+ * java -cp target/test-classes com.example.Sharding.SuiteSharder --shards 4            # CI: one file per runner
+ * mvn test -Dtestng.suite=target/shards/shard-2.xml
+ * java -cp target/test-classes com.example.Sharding.SuiteSharder --shards 4 --run      # local: 4 JVMs at once
+ * </pre>
+ *
+ * <p>Forked shards get their own {@code harness.report.dir} and TestNG output under {@code target/shards/shard-N},
+ * share {@code target/allure-results}, and inherit every {@code -D} option given to the sharder (e.g.
+ * {@code -Dheadless}, {@code -Ddriver.lifecycle}). Their JUnit reports feed the durations of the next plan.
+ */
+public final class SuiteSharder {
+
+    private static final Set<String> JVM_PROPERTY_PREFIXES = Set.of("java.", "jdk.", "sun.", "os.", "user.", "file.",
+            "line.", "path.", "native.", "stdout.", "stderr.", "awt.", "socksNonProxyHosts", "ftp.", "http.");
+
+    private SuiteSharder() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int shardCount = Integer.getInteger("shard.count", 2);
+        Path moduleDir = Paths.get("").toAbsolutePath();
+        Path suite = moduleDir.resolve("testng.xml");
+        Path outDir = moduleDir.resolve("target/shards");
+        Path reports = moduleDir.resolve("target");
+        Path classpathFile = moduleDir.resolve("target/test-classpath.txt");
+        boolean run = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--shards" -> shardCount = Integer.parseInt(args[++i]);
+                case "--suite" -> suite = moduleDir.resolve(args[++i]);
+                case "--out" -> outDir = moduleDir.resolve(args[++i]);
+                case "--reports" -> reports = moduleDir.resolve(args[++i]);
+                case "--classpath-file" -> classpathFile = moduleDir.resolve(args[++i]);
+                case "--run" -> run = true;
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("--shards must be at least 1 but was " + shardCount);
+        }
+
+        Map<String, List<String>> methods = ShardPlanner.discover(suite, moduleDir.resolve("src/test/java"));
+        TestDurations durations = TestDurations.read(reports, methods);
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(methods, durations, shardCount);
+
+        System.out.printf("%d shards from %s (%s)%n", shardCount, moduleDir.relativize(suite),
+                durations.isEmpty() ? "no past durations, assuming equal runtimes" : "past durations");
+        List<Path> files = new ArrayList<>();
+        for (ShardPlanner.Shard shard : shards) {
+            Path file = ShardPlanner.write(shard, suite, outDir);
+            files.add(file);
+            System.out.printf("  %-14s %3d methods  predicted %7.1f s%n", file.getFileName(), shard.methods().size(),
+                    shard.seconds());
+        }
+
+        if (run) {
+            System.exit(runForked(files, outDir, moduleDir, classpathFile));
+        }
+    }
+
+    private static int runForked(List<Path> shardFiles, Path outDir, Path moduleDir, Path classpathFile)
+            throws IOException, InterruptedException {
+        String classpath = Files.isRegularFile(classpathFile)
+                ? moduleDir.resolve("target/test-classes") + File.pathSeparator
+                        + Files.readString(classpathFile, StandardCharsets.UTF_8).trim()
+                : System.getProperty("java.class.path");
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+
+        long start = System.nanoTime();
+        List<Process> processes = new ArrayList<>();
+        for (int i = 0; i < shardFiles.size(); i++) {
+            Path shardDir = outDir.resolve("shard-" + (i + 1));
+            Files.createDirectories(shardDir);
+            List<String> command = new ArrayList<>(List.of(java, "-cp", classpath));
+            System.getProperties().forEach((key, value) -> {
+                String name = key.toString();
+                if (JVM_PROPERTY_PREFIXES.stream().noneMatch(name::startsWith) && !name.equals("harness.report.dir")) {
+                    command.add("-D" + name + "=" + value);
+                }
+            });
+            command.add("-Dharness.report.dir=" + shardDir);
+            command.add("-Dallure.results.directory=" + moduleDir.resolve("target/allure-results"));
+            command.addAll(List.of("org.testng.TestNG", "-d", shardDir.resolve("testng").toString(),
+                    shardFiles.get(i).toString()));
+            processes.add(new ProcessBuilder(command)
+                    .directory(moduleDir.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(shardDir.resolve("output.log").toFile())
+                    .start());
+        }
+
+        int failed = 0;
+        for (int i = 0; i < processes.size(); i++) {
+            int exit = processes.get(i).waitFor();
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            System.out.printf("  shard-%d finished after %7.1f s, exit %d (log: %s)%n", i + 1, elapsed, exit,
+                    moduleDir.relativize(outDir.resolve("shard-" + (i + 1)).resolve("output.log")));
+            if (exit != 0) {
+                failed++;
+            }
+        }
+        System.out.printf("Wall clock %.1f s for %d shards%n", (System.nanoTime() - start) / 1e9, processes.size());
+        return failed == 0 ? 0 : 1;
+    }
+}
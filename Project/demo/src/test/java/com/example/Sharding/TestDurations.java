@@ -0,0 +1,101 @@
+package com.example.Sharding;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Past per-method runtimes from JUnit-style XML reports: {@code target/surefire-reports/TEST-*.xml} and the
+ * {@code junitreports} TestNG writes for forked shards. The newest report wins for a method that appears twice.
+ *
+ * <p>Configuration methods ({@code setup}, {@code initPageObject}) show up as test cases too; their average per class
+ * is added to every method of that class, since each test method pays it.
+ */
+final class TestDurations {
+
+    private final Map<String, Double> seconds = new HashMap<>();
+    private final Map<String, Double> overheadByClass = new HashMap<>();
+
+    static TestDurations read(Path reportsRoot, Map<String, List<String>> testMethods) throws IOException {
+        TestDurations durations = new TestDurations();
+        if (!Files.isDirectory(reportsRoot)) {
+            return durations;
+        }
+        List<Path> reports;
+        try (Stream<Path> files = Files.walk(reportsRoot, 5)) {
+            reports = files.filter(f -> f.getFileName().toString().matches("TEST-.*\\.xml"))
+                    .sorted((a, b) -> Long.compare(a.toFile().lastModified(), b.toFile().lastModified()))
+                    .collect(Collectors.toList());
+        }
+
+        Map<String, double[]> overhead = new HashMap<>();
+        for (Path report : reports) {
+            NodeList cases = parse(report).getElementsByTagName("testcase");
+            for (int i = 0; i < cases.getLength(); i++) {
+                Element testCase = (Element) cases.item(i);
+                String className = testCase.getAttribute("classname");
+                String name = testCase.getAttribute("name");
+                double time = parseTime(testCase.getAttribute("time"));
+                if (testMethods.getOrDefault(className, List.of()).contains(name)) {
+                    durations.seconds.put(className + "#" + name, time);
+                } else {
+                    double[] sum = overhead.computeIfAbsent(className, k -> new double[2]);
+                    sum[0] += time;
+                    sum[1]++;
+                }
+            }
+        }
+        overhead.forEach((className, sum) -> durations.overheadByClass.put(className, sum[0] / sum[1]));
+        return durations;
+    }
+
+    boolean isEmpty() {
+        return seconds.isEmpty();
+    }
+
+    // Unknown methods get the median of the known ones, or a flat guess on the very first run.
+    double estimate(String className, String method) {
+        Double known = seconds.get(className + "#" + method);
+        double base = known != null ? known : median();
+        return base + overheadByClass.getOrDefault(className, 0.0);
+    }
+
+    private double median() {
+        if (seconds.isEmpty()) {
+            return 5.0;
+        }
+        double[] values = seconds.values().stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private static double parseTime(String value) {
+        try {
+            return Double.parseDouble(value.replace(",", ""));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static Document parse(Path report) throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            return factory.newDocumentBuilder().parse(report.toFile());
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Could not read " + report, e);
+        }
+    }
+}
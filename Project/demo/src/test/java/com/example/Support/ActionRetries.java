@@ -0,0 +1,67 @@
+package com.example.Support;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.openqa.selenium.By;
+
+/**
+ * Every element action {@link ElementActions} had to repeat: which test, which action on which locator, why, and how
+ * long the failed attempt took. Written to {@code element-retries.csv} and attached per test, so re-render flakiness
+ * shows up as a number instead of silently stretching the run.
+ */
+public final class ActionRetries {
+
+    private static final String HEADER = "test,action,locator,attempt,cause,lost_ms\n";
+
+    private static final ThreadLocal<String> TEST = new ThreadLocal<>();
+    private static final ThreadLocal<List<String>> CURRENT = ThreadLocal.withInitial(ArrayList::new);
+    private static final Queue<String> SUITE_ROWS = new ConcurrentLinkedQueue<>();
+
+    private ActionRetries() {
+    }
+
+    public static void begin(String testName) {
+        TEST.set(testName);
+        CURRENT.get().clear();
+    }
+
+    static void record(String action, By locator, int attempt, Throwable cause, long nanos) {
+        String row = String.format("%s,%s,\"%s\",%d,%s,%.1f%n", TEST.get() == null ? "" : TEST.get(), action,
+                String.valueOf(locator).replace("\"", "'"), attempt, cause.getClass().getSimpleName(), nanos / 1e6);
+        CURRENT.get().add(row);
+        SUITE_ROWS.add(row);
+    }
+
+    // Closes the current test and returns its retries as CSV, or null if it had none.
+    public static String finish() {
+        List<String> rows = CURRENT.get();
+        TEST.remove();
+        if (rows.isEmpty()) {
+            return null;
+        }
+        String csv = HEADER + String.join("", rows);
+        rows.clear();
+        return csv;
+    }
+
+    public static void writeCsv(Path file) throws IOException {
+        if (SUITE_ROWS.isEmpty()) {
+            return;
+        }
+        Files.createDirectories(file.getParent());
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write(HEADER);
+            for (String row : SUITE_ROWS) {
+                out.write(row);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.Support;
+
+import java.util.function.Supplier;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Element actions that survive the app's re-renders. {@code app.js} replaces list and form markup on every state
+ * change, so a located element can go stale or be briefly covered; those two failures, and only those, are retried
+ * with a fresh lookup, up to {@code -Dactions.attempts} (3) attempts. Timeouts are never retried: a slow page should
+ * fail once, not three times. Every retry is recorded in {@link ActionRetries}.
+ */
+public class ElementActions {
+
+    private static final int MAX_ATTEMPTS = Integer.getInteger("actions.attempts", 3);
+
+    // Sets the value the way a user edit would look to app.js: input and change events both fire.
+    private static final String SET_VALUE_SCRIPT =
+            "arguments[0].value = arguments[1];"
+                    + "arguments[0].dispatchEvent(new Event('input', { bubbles: true }));"
+                    + "arguments[0].dispatchEvent(new Event('change', { bubbles: true }));";
+
+    private final WebDriver driver;
+    private final WaitEngine waits;
+
+    public ElementActions(WebDriver driver) {
+        this(driver, new WaitEngine(driver));
+    }
+
+    public ElementActions(WebDriver driver, WaitEngine waits) {
+        this.driver = driver;
+        this.waits = waits;
+    }
+
+    public void click(By locator) {
+        perform("click", locator, () -> {
+            waits.clickable(locator).click();
+            return null;
+        });
+    }
+
+    public void setValue(By locator, String value) {
+        perform("setValue", locator, () -> {
+            ((JavascriptExecutor) driver).executeScript(SET_VALUE_SCRIPT, waits.clickable(locator), value);
+            return null;
+        });
+    }
+
+    public <T> T perform(String action, By locator, Supplier<T> step) {
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                return step.get();
+            } catch (StaleElementReferenceException | ElementNotInteractableException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                ActionRetries.record(action, locator, attempt, e, System.nanoTime() - start);
+            }
+        }
+    }
+}
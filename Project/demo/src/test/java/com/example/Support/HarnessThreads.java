@@ -0,0 +1,77 @@
+package com.example.Support;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executors for harness work that mostly waits on chromedriver: pool warm-up and shutdown, load users, report
+ * uploads and the static server.
+ *
+ * <p>With {@code -Dharness.virtual.threads=true} on Java 21+ (the {@code java21} Maven profile) every task gets its
+ * own virtual thread, so the number of coordinated sessions is no longer capped by platform threads. Otherwise, and
+ * on Java 17, tasks run on a fixed pool of daemon platform threads. Virtual threads are looked up reflectively so the
+ * harness still compiles with {@code --release 17}.
+ */
+public final class HarnessThreads {
+
+    private static final Logger LOG = Logger.getLogger(HarnessThreads.class.getName());
+
+    private static final ThreadFactory VIRTUAL = Boolean.getBoolean("harness.virtual.threads")
+            ? virtualThreadFactory() : null;
+    private static final Method NEW_THREAD_PER_TASK = VIRTUAL != null ? threadPerTaskMethod() : null;
+
+    private HarnessThreads() {
+    }
+
+    public static boolean virtual() {
+        return NEW_THREAD_PER_TASK != null;
+    }
+
+    // platformThreads only sizes the Java 17 fallback; virtual executors are unbounded.
+    public static ExecutorService newExecutor(String name, int platformThreads) {
+        if (NEW_THREAD_PER_TASK != null) {
+            try {
+                return (ExecutorService) NEW_THREAD_PER_TASK.invoke(null, VIRTUAL);
+            } catch (ReflectiveOperationException e) {
+                LOG.log(Level.WARNING, "Falling back to platform threads for " + name, e);
+            }
+        }
+        return Executors.newFixedThreadPool(Math.max(1, platformThreads), platformFactory(name));
+    }
+
+    public static ThreadFactory platformFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Thread.ofVirtual().name("harness-vt-", 0).factory(), resolved through the public Thread.Builder interfaces.
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            builder = ofVirtual.getMethod("name", String.class, long.class).invoke(builder, "harness-vt-", 0L);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            LOG.warning("harness.virtual.threads needs Java 21+, running on " + Runtime.version()
+                    + "; using platform threads");
+            return null;
+        }
+    }
+
+    private static Method threadPerTaskMethod() {
+        try {
+            return Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
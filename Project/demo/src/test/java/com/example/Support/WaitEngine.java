@@ -0,0 +1,122 @@
+package com.example.Support;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.FluentWait;
+
+/**
+ * Explicit waits for page objects and tests. Implicit waits are off, so every lookup goes through here.
+ *
+ * <p>Defaults come from {@code -Dwait.timeout.ms} (10000), {@code -Dwait.polling.ms} (50) and
+ * {@code -Dwait.absence.ms} (0). Presence checks that are expected to fail return after one lookup unless an
+ * absence grace period is configured. Every wait is timed in {@link WaitStats}.
+ */
+public class WaitEngine {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMillis(Long.getLong("wait.timeout.ms", 10_000));
+    public static final Duration POLLING = Duration.ofMillis(Long.getLong("wait.polling.ms", 50));
+    public static final Duration ABSENCE_GRACE = Duration.ofMillis(Long.getLong("wait.absence.ms", 0));
+
+    private final WebDriver driver;
+    private final Duration timeout;
+
+    public WaitEngine(WebDriver driver) {
+        this(driver, DEFAULT_TIMEOUT);
+    }
+
+    public WaitEngine(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    public WaitEngine withTimeout(Duration timeout) {
+        return new WaitEngine(driver, timeout);
+    }
+
+    public WebElement present(By locator) {
+        return until("present " + locator, timeout, ExpectedConditions.presenceOfElementLocated(locator));
+    }
+
+    public WebElement visible(By locator) {
+        return until("visible " + locator, timeout, ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+
+    public WebElement clickable(By locator) {
+        return until("clickable " + locator, timeout, ExpectedConditions.elementToBeClickable(locator));
+    }
+
+    // Current matches without waiting; the app renders synchronously, so an empty list is a real answer.
+    public List<WebElement> all(By locator) {
+        long start = System.nanoTime();
+        try {
+            return driver.findElements(locator);
+        } finally {
+            WaitStats.record(WaitStats.caller(), "all " + locator, System.nanoTime() - start, true);
+        }
+    }
+
+    public boolean isPresent(By locator) {
+        return isPresent(locator, ABSENCE_GRACE);
+    }
+
+    public boolean isPresent(By locator, Duration grace) {
+        if (grace.isZero()) {
+            return !all(locator).isEmpty();
+        }
+        try {
+            until("present " + locator, grace, d -> !d.findElements(locator).isEmpty() ? Boolean.TRUE : null);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    public boolean isAbsent(By locator) {
+        return !isPresent(locator);
+    }
+
+    public boolean urlContains(String fragment) {
+        return until("url contains " + fragment, timeout, ExpectedConditions.urlContains(fragment));
+    }
+
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        return until(describe(condition), timeout, condition);
+    }
+
+    public <T> T until(Duration timeout, Function<? super WebDriver, T> condition) {
+        return until(describe(condition), timeout, condition);
+    }
+
+    public <T> T until(String description, Duration timeout, Function<? super WebDriver, T> condition) {
+        String caller = WaitStats.caller();
+        long start = System.nanoTime();
+        boolean satisfied = false;
+        try {
+            T value = new FluentWait<>(driver)
+                    .withTimeout(timeout)
+                    .pollingEvery(POLLING)
+                    .ignoring(NoSuchElementException.class)
+                    .ignoring(StaleElementReferenceException.class)
+                    .withMessage(description)
+                    .until(condition);
+            satisfied = true;
+            return value;
+        } finally {
+            WaitStats.record(caller, description, System.nanoTime() - start, satisfied);
+        }
+    }
+
+    private static String describe(Function<?, ?> condition) {
+        // Lambdas have no useful toString; the caller column already says where they come from.
+        return condition.getClass().isSynthetic() ? "custom condition" : condition.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.Support;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Suite-wide totals for {@link WaitEngine}, grouped by calling method and condition.
+ */
+public final class WaitStats {
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private WaitStats() {
+    }
+
+    static void record(String caller, String condition, long nanos, boolean satisfied) {
+        Entry entry = ENTRIES.computeIfAbsent(caller + '\u0000' + condition, k -> new Entry(caller, condition));
+        entry.count.increment();
+        entry.totalNanos.add(nanos);
+        entry.maxNanos.accumulate(nanos);
+        if (!satisfied) {
+            entry.timeouts.increment();
+        }
+    }
+
+    // First frame outside the wait engine, e.g. "CartPage.getGrandTotalText".
+    static String caller() {
+        return WALKER.walk(frames -> frames
+                .filter(f -> !f.getClassName().startsWith(WaitEngine.class.getName())
+                        && !f.getClassName().equals(WaitStats.class.getName()))
+                .findFirst()
+                .map(f -> simpleName(f.getClassName()) + "." + f.getMethodName())
+                .orElse("unknown"));
+    }
+
+    public static void writeCsv(Path file) throws IOException {
+        List<Entry> rows = new ArrayList<>(ENTRIES.values());
+        rows.sort(Comparator.comparingLong((Entry e) -> e.totalNanos.sum()).reversed());
+
+        Files.createDirectories(file.getParent());
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("caller,condition,count,total_ms,avg_ms,max_ms,timeouts\n");
+            for (Entry e : rows) {
+                long count = e.count.sum();
+                double total = millis(e.totalNanos.sum());
+                out.write(String.format("%s,\"%s\",%d,%.1f,%.1f,%.1f,%d%n", e.caller,
+                        e.condition.replace("\"", "\"\""), count, total, total / count,
+                        millis(e.maxNanos.get()), e.timeouts.sum()));
+            }
+        }
+    }
+
+    private static String simpleName(String className) {
+        String name = className.substring(className.lastIndexOf('.') + 1);
+        int lambda = name.indexOf('$');
+        return lambda < 0 ? name : name.substring(0, lambda);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static final class Entry {
+
+        private final String caller;
+        private final String condition;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder timeouts = new LongAdder();
+
+        private Entry(String caller, String condition) {
+            this.caller = caller;
+            this.condition = condition;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.Tests;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.example.Domain.CartTotals;
+import com.example.Domain.Catalog;
+import com.example.Domain.Game;
+import com.example.Logic.AppLogic;
+import com.example.Models.CartLine;
+
+// Logic-only tier: app.js itself, run in GraalJS without a browser.
+public class AppLogicTest {
+
+    private static final long SEED = Long.getLong("logic.property.seed", 20240601L);
+    private static final int CASES = Integer.getInteger("logic.property.cases", 2000);
+
+    @BeforeMethod
+    public void resetStorage() {
+        app().reset();
+    }
+
+    @Test
+    public void verifyLuhnCheck() {
+        Assert.assertTrue(app().luhnCheck("4111111111111111"));
+        Assert.assertTrue(app().luhnCheck("5555555555554444"));
+        Assert.assertFalse(app().luhnCheck("4111111111111112"));
+        Assert.assertFalse(app().luhnCheck("4111a11111111111"));
+    }
+
+    @Test
+    public void verifyLuhnAcceptsComputedCheckDigitsAndRejectsSingleDigitErrors() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < CASES; i++) {
+            StringBuilder digits = new StringBuilder();
+            for (int j = 0, length = 12 + random.nextInt(8); j < length; j++) {
+                digits.append(random.nextInt(10));
+            }
+            String valid = digits.append(checkDigit(digits)).toString();
+            int position = random.nextInt(valid.length());
+            char wrong = (char) ('0' + (valid.charAt(position) - '0' + 1 + random.nextInt(9)) % 10);
+            String invalid = valid.substring(0, position) + wrong + valid.substring(position + 1);
+
+            Assert.assertTrue(app().luhnCheck(valid), valid);
+            Assert.assertFalse(app().luhnCheck(invalid), invalid);
+        }
+    }
+
+    @Test
+    public void verifyCardNumberNormalization() {
+        Assert.assertEquals(app().normalizeCardNumber("4111 1111-1111 1111"), "4111111111111111");
+        Assert.assertEquals(app().normalizeCardNumber(null), "");
+    }
+
+    @Test
+    public void verifyExpiryParsing() {
+        Assert.assertEquals(app().parseExp("12/30"), Optional.of(YearMonth.of(2030, 12)));
+        Assert.assertEquals(app().parseExp(" 07 / 29 "), Optional.of(YearMonth.of(2029, 7)));
+        Assert.assertEquals(app().parseExp("13/30"), Optional.empty());
+        Assert.assertEquals(app().parseExp("1/30"), Optional.empty());
+        Assert.assertEquals(app().parseExp("00/30"), Optional.empty());
+    }
+
+    @Test
+    public void verifyExpiryValidity() {
+        YearMonth now = YearMonth.now();
+        Assert.assertTrue(app().isExpValid(mmYY(now)));
+        Assert.assertTrue(app().isExpValid(mmYY(now.plusYears(3))));
+        Assert.assertFalse(app().isExpValid(mmYY(now.minusMonths(1))));
+        Assert.assertFalse(app().isExpValid("12/3"));
+    }
+
+    @Test
+    public void verifyMoneyFormatting() {
+        Assert.assertEquals(app().money(19.99), "$19.99");
+        Assert.assertEquals(app().money(3959.01), "$3,959.01");
+        Assert.assertEquals(app().money(0), "$0.00");
+    }
+
+    @Test
+    public void verifySearchFilter() {
+        Assert.assertEquals(app().renderGames("").size(), Catalog.seeded().games().size());
+        Assert.assertEquals(app().renderGames("  NEON "), List.of("Neon Drift"));
+        Assert.assertEquals(app().renderGames("pixel"), List.of("Pixel Quest DX"));
+        Assert.assertFalse(app().isEmptyMessageShown());
+
+        Assert.assertEquals(app().renderGames("no such game"), List.of());
+        Assert.assertTrue(app().isEmptyMessageShown());
+    }
+
+    // The Java oracle the page tests use must agree with app.js to the last bit of the double total.
+    @Test
+    public void verifyCartTotalsMatchJavaOracle() {
+        Random random = new Random(SEED);
+        List<Game> games = new ArrayList<>(Catalog.seeded().games());
+        for (int i = 0; i < CASES; i++) {
+            List<CartLine> cart = new ArrayList<>();
+            for (int j = 0, lines = random.nextInt(games.size() + 1); j < lines; j++) {
+                cart.add(CartLine.of(games.get(random.nextInt(games.size())).id(), random.nextInt(120) - 10));
+            }
+            if (random.nextInt(10) == 0) {
+                cart.add(CartLine.of("retired-game", 1));
+            }
+
+            Assert.assertEquals(app().cartTotals(cart), CartTotals.of(cart, Catalog.seeded()),
+                    "seed " + SEED + ", case " + i + ": " + cart);
+        }
+    }
+
+    // Each thread has its own GraalJS context; a context captured on another thread cannot be entered.
+    private static AppLogic app() {
+        return AppLogic.current();
+    }
+
+    private static String mmYY(YearMonth month) {
+        return String.format("%02d/%02d", month.getMonthValue(), month.getYear() % 100);
+    }
+
+    private static int checkDigit(CharSequence digits) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = digits.length() - 1; i >= 0; i--) {
+            int n = digits.charAt(i) - '0';
+            if (doubled) {
+                n = n * 2 > 9 ? n * 2 - 9 : n * 2;
+            }
+            sum += n;
+            doubled = !doubled;
+        }
+        return (10 - sum % 10) % 10;
+    }
+}
@@ -2,18 +2,22 @@ package com.example.Tests;
 
 import java.time.Duration;
 
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.example.Base.BaseTest;
+import com.example.Base.NetworkPolicy;
+import com.example.Domain.CartTotals;
+import com.example.Fixtures.StoreFixture;
+import com.example.Models.CartSnapshot;
 import com.example.Pages.CartPage;
 
+// No test here looks at cover art.
+@NetworkPolicy(block = {NetworkPolicy.Asset.IMAGES, NetworkPolicy.Asset.FONTS})
 public class CartPageTest extends BaseTest {
 
     private static final String TEST_USER_ID = "cart-test-user";
-    private static final String BASE_URL = System.getProperty("base.url", "http://127.0.0.1:5501");
     private CartPage cart;
 
     @Override
@@ -51,16 +55,18 @@ public class CartPageTest extends BaseTest {
     @Test
     public void verifySingleItemIsRendered() {
         prepareCartByAddingGames("neon-drift");
+        CartSnapshot snapshot = cart.snapshot();
 
-        Assert.assertEquals(cart.getCartItemsCount(), 1);
-        Assert.assertTrue(cart.isCartItemPresent("neon-drift"));
+        Assert.assertEquals(snapshot.itemCount(), 1);
+        Assert.assertTrue(snapshot.contains("neon-drift"));
     }
 
     @Test
     public void verifyGrandTotalForSingleItem() {
         prepareCartByAddingGames("neon-drift");
 
-        Assert.assertTrue(cart.getGrandTotalText().contains("19.99"));
+        String expected = CartTotals.ofGames("neon-drift").amountText();
+        Assert.assertTrue(cart.getGrandTotalText().contains(expected));
     }
 
     @Test
@@ -83,16 +89,18 @@ public class CartPageTest extends BaseTest {
     public void verifyRemoveItemMakesCartEmpty() {
         prepareCartByAddingGames("neon-drift");
         cart.clickRemove("neon-drift");
+        CartSnapshot snapshot = cart.snapshot();
 
-        Assert.assertEquals(cart.getCartItemsCount(), 0);
-        Assert.assertTrue(cart.isEmptyCartMessageDisplayed());
+        Assert.assertEquals(snapshot.itemCount(), 0);
+        Assert.assertTrue(snapshot.emptyMessageVisible());
     }
 
     @Test
     public void verifyGrandTotalForMultipleItems() {
         prepareCartByAddingGames("neon-drift", "neon-drift", "iron-legion");
 
-        Assert.assertTrue(cart.getGrandTotalText().contains("69.97"));
+        String expected = CartTotals.ofGames("neon-drift", "neon-drift", "iron-legion").amountText();
+        Assert.assertTrue(cart.getGrandTotalText().contains(expected));
     }
 
     @Test
@@ -100,8 +108,7 @@ public class CartPageTest extends BaseTest {
         prepareCartByAddingGames("neon-drift");
         cart.clickCheckout();
 
-        new WebDriverWait(driver, Duration.ofSeconds(5))
-                .until(d -> cart.getCurrentUrl().contains("/payment.html"));
+        waits.until(Duration.ofSeconds(5), d -> cart.getCurrentUrl().contains("/payment.html"));
 
         Assert.assertTrue(cart.getCurrentUrl().contains("/payment.html"));
     }
@@ -125,26 +132,21 @@ public class CartPageTest extends BaseTest {
     public void verifyRemovingOneItemKeepsOtherItemInCart() {
         prepareCartByAddingGames("neon-drift", "iron-legion");
         cart.clickRemove("neon-drift");
+        CartSnapshot snapshot = cart.snapshot();
 
-        Assert.assertEquals(cart.getCartItemsCount(), 1);
-        Assert.assertTrue(cart.isCartItemPresent("iron-legion"));
+        Assert.assertEquals(snapshot.itemCount(), 1);
+        Assert.assertTrue(snapshot.contains("iron-legion"));
     }
 
     private void prepareEmptyCart() {
-        cart.setLoggedInUser(TEST_USER_ID);
-        cart.clearCartForUser(TEST_USER_ID);
-        cart.openPath(BASE_URL, "/cart.html");
+        StoreFixture.forUser(TEST_USER_ID)
+                .withEmptyCart()
+                .openAt(driver, baseUrl(), "/cart.html");
     }
 
     private void prepareCartByAddingGames(String... gameIds) {
-        cart.setLoggedInUser(TEST_USER_ID);
-        cart.clearCartForUser(TEST_USER_ID);
-        cart.openPath(BASE_URL, "/index.html");
-
-        for (String gameId : gameIds) {
-            cart.addGameToCartFromGamePage(BASE_URL, gameId);
-        }
-
-        cart.openPath(BASE_URL, "/cart.html");
+        StoreFixture.forUser(TEST_USER_ID)
+                .withCartOf(gameIds)
+                .openAt(driver, baseUrl(), "/cart.html");
     }
 }
@@ -0,0 +1,83 @@
+package com.example.Tests;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.example.Domain.CartTotals;
+import com.example.Domain.Catalog;
+import com.example.Domain.Game;
+import com.example.Models.CartLine;
+
+// Browser-free: checks the Java mirror of app.js's cart arithmetic that the page tests use as their oracle.
+public class CartTotalsTest {
+
+    private static final long SEED = Long.getLong("cart.property.seed", 20240601L);
+    private static final int CASES = Integer.getInteger("cart.property.cases", 5000);
+
+    private final Catalog catalog = Catalog.seeded();
+
+    @Test
+    public void verifySeededCatalogMatchesApp() {
+        Assert.assertEquals(catalog.games().size(), 9);
+        Assert.assertEquals(catalog.get("neon-drift").price(), new BigDecimal("19.99"));
+        Assert.assertEquals(catalog.get("pixel-quest").title(), "Pixel Quest DX");
+    }
+
+    @Test
+    public void verifyKnownTotals() {
+        Assert.assertEquals(CartTotals.ofGames("neon-drift").totalText(), "$19.99");
+        Assert.assertEquals(CartTotals.ofGames("neon-drift", "iron-legion").totalText(), "$49.98");
+        Assert.assertEquals(CartTotals.ofGames("neon-drift", "neon-drift", "iron-legion").totalText(), "$69.97");
+        Assert.assertEquals(CartTotals.of(CartLine.of("astral-odyssey", 99)).totalText(), "$3,959.01");
+    }
+
+    @Test
+    public void verifyAmountTextIsTheTotalWithoutCurrency() {
+        Assert.assertEquals(CartTotals.ofGames("neon-drift").amountText(), "19.99");
+        Assert.assertEquals(CartTotals.of(CartLine.of("astral-odyssey", 99)).amountText(), "3,959.01");
+        Assert.assertEquals(CartTotals.of().amountText(), "0.00");
+    }
+
+    @Test
+    public void verifyQuantityIsClampedToOneThroughNinetyNine() {
+        Assert.assertEquals(CartTotals.clampQty(0), 1);
+        Assert.assertEquals(CartTotals.clampQty(-5), 1);
+        Assert.assertEquals(CartTotals.clampQty(150), 99);
+        Assert.assertEquals(CartTotals.increment(99), 99);
+        Assert.assertEquals(CartTotals.decrement(1), 1);
+        Assert.assertEquals(CartTotals.of(CartLine.of("neon-drift", 500)).lines().get(0).qty(), 99);
+    }
+
+    @Test
+    public void verifyUnknownGamesAreDropped() {
+        CartTotals totals = CartTotals.of(CartLine.of("no-such-game", 3), CartLine.of("void-echo", 1));
+
+        Assert.assertEquals(totals.lines().size(), 1);
+        Assert.assertEquals(totals.orderTotal(), new BigDecimal("24.99"));
+    }
+
+    // Summing in doubles like the page must never round to a different cent than exact decimal arithmetic.
+    @Test
+    public void verifyDisplayedTotalMatchesExactArithmetic() {
+        Random random = new Random(SEED);
+        List<Game> games = new ArrayList<>(catalog.games());
+        for (int i = 0; i < CASES; i++) {
+            List<CartLine> cart = new ArrayList<>();
+            int lines = random.nextInt(games.size() + 1);
+            for (int j = 0; j < lines; j++) {
+                cart.add(CartLine.of(games.get(random.nextInt(games.size())).id(), random.nextInt(120) - 10));
+            }
+            CartTotals totals = CartTotals.of(cart, catalog);
+
+            Assert.assertEquals(totals.orderTotal(), totals.exactTotal(), "seed " + SEED + ", case " + i + ": " + cart);
+            for (CartTotals.Line line : totals.lines()) {
+                Assert.assertTrue(line.qty() >= CartTotals.MIN_QTY && line.qty() <= CartTotals.MAX_QTY);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.Tests;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.example.Load.LoadProfile;
+import com.example.Load.LoadReport;
+import com.example.Load.LoadRunner;
+import com.example.Server.StaticFileServer;
+
+import io.qameta.allure.Allure;
+
+/**
+ * Concurrent shoppers through the checkout funnel. Not part of testng.xml; run it with {@code mvn test -Pload}.
+ */
+public class CheckoutLoadTest {
+
+    private static final Logger LOG = Logger.getLogger(CheckoutLoadTest.class.getName());
+
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max.error.rate", "0.05"));
+
+    @BeforeClass
+    public void startStaticServer() {
+        StaticFileServer.startForSuite();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStaticServer() {
+        StaticFileServer.stopForSuite();
+    }
+
+    @Test
+    public void checkoutUnderConcurrentShoppers() throws InterruptedException, IOException {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        LoadReport report = new LoadRunner(profile, StaticFileServer.suiteBaseUrl()).run();
+
+        String summary = report.summary();
+        Allure.addAttachment("Load summary", "text/plain", summary);
+        LOG.info(summary.trim());
+        report.writeCsv(Paths.get(System.getProperty("harness.report.dir", "target"), "load-report.csv"));
+
+        Assert.assertTrue(report.checkouts() > 0, "No checkout completed");
+        Assert.assertTrue(report.errorRate() <= MAX_ERROR_RATE,
+                String.format("Error rate %.1f%% above %.1f%%", report.errorRate() * 100, MAX_ERROR_RATE * 100));
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.Tests;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.example.Base.BaseTest;
+import com.example.Base.DriverManager;
+import com.example.Base.NetworkPolicy;
+import com.example.Fixtures.CatalogFixture;
+import com.example.Fixtures.StoreFixture;
+import com.example.Metrics.BrowserMetrics;
+import com.example.Pages.HomePage;
+
+import io.qameta.allure.Allure;
+
+/**
+ * How the home page grid copes with a growing catalog. Not part of testng.xml; run it with {@code mvn test -Pscale}.
+ *
+ * <p>For each {@code -Dcatalog.scale.sizes} (1000, 10000, 100000) the page is opened on a generated catalog and a
+ * broad, a unique, an empty-result and a cleared search are timed from the input event to the grid mutation
+ * ({@code render_ms}, which includes the app's 60 ms debounce) and to the next frame ({@code frame_ms}). DOM size, JS
+ * heap and the layout/style/script time Chrome spent are read through {@code Performance.getMetrics}. Results go to
+ * {@code catalog-scale.csv}; {@code -Dcatalog.scale.budget.ms} additionally fails searches slower than the budget.
+ */
+// Generated games have no cover art; the fallback data URIs are used either way.
+@NetworkPolicy(block = {NetworkPolicy.Asset.IMAGES, NetworkPolicy.Asset.FONTS})
+public class HomePageScaleTest extends BaseTest {
+
+    private static final String TEST_USER_ID = "scale-test-user";
+    private static final long BUDGET_MS = Long.getLong("catalog.scale.budget.ms", 0);
+    private static final Duration SCRIPT_TIMEOUT = Duration.ofSeconds(Long.getLong("catalog.scale.timeout", 300));
+
+    private static final String HEADER = "size,step,query,matches,render_ms,frame_ms,dom_elements,cdp_nodes,"
+            + "js_heap_used_mb,layout_ms,recalc_style_ms,script_ms";
+
+    // Resolves once renderGames() has replaced the grid and once more after the following frame.
+    private static final String TIMED_SEARCH_SCRIPT =
+            "const text = arguments[0], done = arguments[arguments.length - 1];"
+                    + "const grid = document.getElementById('games-grid');"
+                    + "const input = document.getElementById('search');"
+                    + "const start = performance.now();"
+                    + "const observer = new MutationObserver(() => {"
+                    + "  observer.disconnect();"
+                    + "  const rendered = performance.now() - start;"
+                    + "  requestAnimationFrame(() => setTimeout(() => done({ render: rendered,"
+                    + "      frame: performance.now() - start }), 0));"
+                    + "});"
+                    + "observer.observe(grid, { childList: true });"
+                    + "input.value = text;"
+                    + "input.dispatchEvent(new Event('input', { bubbles: true }));";
+
+    private static final String LOAD_SCRIPT =
+            "const nav = performance.getEntriesByType('navigation')[0];"
+                    + "return { render: nav.domContentLoadedEventEnd - nav.startTime,"
+                    + "  frame: (nav.loadEventEnd || nav.domContentLoadedEventEnd) - nav.startTime,"
+                    + "  elements: document.getElementsByTagName('*').length };";
+
+    private static final String ELEMENT_COUNT_SCRIPT = "return document.getElementsByTagName('*').length;";
+
+    private static final Queue<String> ROWS = new ConcurrentLinkedQueue<>();
+
+    private HomePage home;
+
+    @Override
+    protected String getStartPath() {
+        return "/login.html";
+    }
+
+    @BeforeMethod
+    public void initPageObject() {
+        home = new HomePage(driver);
+    }
+
+    @DataProvider(name = "catalogSizes")
+    public Object[][] catalogSizes() {
+        return Arrays.stream(System.getProperty("catalog.scale.sizes", "1000,10000,100000").split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(s -> new Object[] {Integer.parseInt(s)})
+                .toArray(Object[][]::new);
+    }
+
+    @Test(dataProvider = "catalogSizes")
+    @SuppressWarnings("unchecked")
+    public void verifySearchRenderingAtScale(int size) {
+        WebDriver session = DriverManager.getSession();
+        Duration scriptTimeout = driver.manage().timeouts().getScriptTimeout();
+        driver.manage().timeouts().scriptTimeout(SCRIPT_TIMEOUT);
+        try (CatalogFixture catalog = CatalogFixture.install(session, size)) {
+            Map<String, Double> beforeLoad = BrowserMetrics.snapshot(session);
+            StoreFixture.forUser(TEST_USER_ID).openAt(driver, baseUrl(), "/index.html");
+            Map<String, Object> load = (Map<String, Object>) js().executeScript(LOAD_SCRIPT);
+            record(size, "load", "", home.getRenderedGameCount(), load, beforeLoad, BrowserMetrics.snapshot(session),
+                    ((Number) load.get("elements")).longValue());
+            Assert.assertEquals(home.getRenderedGameCount(), size, "Cards after load");
+
+            List<String> queries = List.of("astral", String.format(Locale.ROOT, "%06d", size / 2), "no such game", "");
+            List<String> steps = List.of("broad", "unique", "none", "clear");
+            for (int i = 0; i < queries.size(); i++) {
+                String query = queries.get(i);
+                Map<String, Double> before = BrowserMetrics.snapshot(session);
+                Map<String, Object> timing = (Map<String, Object>) js().executeAsyncScript(TIMED_SEARCH_SCRIPT, query);
+                Map<String, Double> after = BrowserMetrics.snapshot(session);
+                long rendered = home.getRenderedGameCount();
+                long elements = ((Number) js().executeScript(ELEMENT_COUNT_SCRIPT)).longValue();
+                double renderMs = record(size, steps.get(i), query, rendered, timing, before, after, elements);
+
+                int expected = catalog.matches(query);
+                Assert.assertEquals(rendered, expected, "Cards for '" + query + "' in " + size + " games");
+                Assert.assertEquals(home.isEmptyMessageVisible(), expected == 0, "Empty message for '" + query + "'");
+                if (BUDGET_MS > 0) {
+                    Assert.assertTrue(renderMs <= BUDGET_MS, String.format(Locale.ROOT,
+                            "Search '%s' in %d games took %.0f ms, budget %d ms", query, size, renderMs, BUDGET_MS));
+                }
+            }
+        } finally {
+            driver.manage().timeouts().scriptTimeout(scriptTimeout);
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void writeReport() throws IOException {
+        if (ROWS.isEmpty()) {
+            return;
+        }
+        String csv = HEADER + "\n" + String.join("\n", ROWS) + "\n";
+        Path report = Paths.get(System.getProperty("harness.report.dir", "target"), "catalog-scale.csv");
+        Files.createDirectories(report.getParent());
+        try (Writer out = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+            out.write(csv);
+        }
+        Allure.addAttachment("Catalog scale", "text/csv", csv, ".csv");
+    }
+
+    private double record(int size, String step, String query, long matches, Map<String, Object> timing,
+            Map<String, Double> before, Map<String, Double> after, long elements) {
+        double renderMs = ((Number) timing.get("render")).doubleValue();
+        ROWS.add(String.format(Locale.ROOT, "%d,%s,\"%s\",%d,%.1f,%.1f,%d,%.0f,%.1f,%.1f,%.1f,%.1f", size, step, query,
+                matches, renderMs, ((Number) timing.get("frame")).doubleValue(), elements,
+                BrowserMetrics.get(after, "Nodes"), BrowserMetrics.get(after, "JSHeapUsedSize") / (1024 * 1024),
+                BrowserMetrics.delta(before, after, "LayoutDuration") * 1000,
+                BrowserMetrics.delta(before, after, "RecalcStyleDuration") * 1000,
+                BrowserMetrics.delta(before, after, "ScriptDuration") * 1000));
+        return renderMs;
+    }
+
+    private JavascriptExecutor js() {
+        return (JavascriptExecutor) driver;
+    }
+}
@@ -1,15 +1,9 @@
 package com.example.Tests;
 
-import java.time.Duration;
-
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
-import org.openqa.selenium.WebDriverException;
-import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.example.Base.BaseTest;
@@ -21,18 +15,12 @@ public class LoginPageTest extends BaseTest {
     private final By loginBtn = By.cssSelector("#login-form button");
     private final By errorMsg = By.id("login-msg");
     private final By signupTab = By.id("tab-signup");
-    private WebDriverWait wait;
 
     @Override
     protected String getStartPath() {
         return "/login.html";
     }
 
-    @BeforeMethod
-    public void initWait() {
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-    }
-
     // 1️⃣ Verify login page loads
     @Test
     public void verifyLoginPageLoads() {
@@ -43,7 +31,7 @@ public class LoginPageTest extends BaseTest {
     @Test
     public void loginWithEmptyFields() {
         click(loginBtn);
-        Assert.assertTrue(wait.until(ExpectedConditions.visibilityOfElementLocated(errorMsg)) != null);
+        Assert.assertTrue(waits.until(ExpectedConditions.visibilityOfElementLocated(errorMsg)) != null);
     }
 
     // 3️⃣ Invalid email format
@@ -74,15 +62,15 @@ public class LoginPageTest extends BaseTest {
     @Test
     public void verifyEmailFieldInput() {
         clearAndType(email, "hello@test.com");
-        wait.until(ExpectedConditions.attributeToBe(email, "value", "hello@test.com"));
-        String value = wait.until(ExpectedConditions.visibilityOfElementLocated(email)).getAttribute("value");
+        waits.until(ExpectedConditions.attributeToBe(email, "value", "hello@test.com"));
+        String value = waits.until(ExpectedConditions.visibilityOfElementLocated(email)).getAttribute("value");
         Assert.assertEquals(value, "hello@test.com");
     }
 
     // 7️⃣ Password field masked
     @Test
     public void verifyPasswordIsHidden() {
-        String type = wait.until(ExpectedConditions.visibilityOfElementLocated(password))
+        String type = waits.until(ExpectedConditions.visibilityOfElementLocated(password))
                 .getAttribute("type");
 
         Assert.assertEquals(type, "password");
@@ -94,14 +82,14 @@ public class LoginPageTest extends BaseTest {
     @Test
     public void verifySignupTabSwitch() {
         click(signupTab);
-        Assert.assertTrue(wait.until(d -> isVisible(By.id("signup-form"))));
+        Assert.assertTrue(waits.until(d -> isVisible(By.id("signup-form"))));
     }
 
     // 9️⃣ Login button enabled
     @Test
     public void verifyLoginButtonEnabled() {
         Assert.assertTrue(
-            wait.until(ExpectedConditions.elementToBeClickable(loginBtn)).isEnabled()
+            waits.until(ExpectedConditions.elementToBeClickable(loginBtn)).isEnabled()
         );
     }
 
@@ -115,60 +103,21 @@ public class LoginPageTest extends BaseTest {
             click(loginBtn);
         }
 
-        Assert.assertTrue(wait.until(ExpectedConditions.visibilityOfElementLocated(errorMsg)).isDisplayed());
+        Assert.assertTrue(waits.until(ExpectedConditions.visibilityOfElementLocated(errorMsg)).isDisplayed());
     }
 
     private void click(By locator) {
-        for (int attempt = 0; attempt < 3; attempt++) {
-            try {
-                wait.until(ExpectedConditions.elementToBeClickable(locator)).click();
-                return;
-            } catch (WebDriverException ignored) {
-                // Retry on transient DOM replacement from tab switch/render.
-            }
-        }
-        wait.until(ExpectedConditions.elementToBeClickable(locator)).click();
+        actions.click(locator);
     }
 
     private void type(By locator, String text) {
-        for (int attempt = 0; attempt < 3; attempt++) {
-            try {
-                WebElement el = wait.until(ExpectedConditions.elementToBeClickable(locator));
-                setValue(el, text);
-                wait.until(ExpectedConditions.attributeToBe(locator, "value", text));
-                return;
-            } catch (WebDriverException ignored) {
-                // Retry on transient re-render.
-            }
-        }
-        WebElement el = wait.until(ExpectedConditions.elementToBeClickable(locator));
-        setValue(el, text);
-        wait.until(ExpectedConditions.attributeToBe(locator, "value", text));
+        actions.setValue(locator, text);
+        waits.until(ExpectedConditions.attributeToBe(locator, "value", text));
     }
 
+    // Setting the value replaces what was there, so clearing needs no separate step.
     private void clearAndType(By locator, String text) {
-        for (int attempt = 0; attempt < 3; attempt++) {
-            try {
-                WebElement el = wait.until(ExpectedConditions.elementToBeClickable(locator));
-                setValue(el, text);
-                wait.until(ExpectedConditions.attributeToBe(locator, "value", text));
-                return;
-            } catch (WebDriverException ignored) {
-                // Retry on transient re-render.
-            }
-        }
-        WebElement el = wait.until(ExpectedConditions.elementToBeClickable(locator));
-        setValue(el, text);
-        wait.until(ExpectedConditions.attributeToBe(locator, "value", text));
-    }
-
-    private void setValue(WebElement el, String text) {
-        ((JavascriptExecutor) driver).executeScript(
-                "arguments[0].value = arguments[1];"
-                        + "arguments[0].dispatchEvent(new Event('input', { bubbles: true }));"
-                        + "arguments[0].dispatchEvent(new Event('change', { bubbles: true }));",
-                el, text
-        );
+        type(locator, text);
     }
 
     private boolean isVisible(By locator) {
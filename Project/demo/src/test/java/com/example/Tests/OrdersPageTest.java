@@ -2,19 +2,21 @@ package com.example.Tests;
 
 import java.time.Duration;
 
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.example.Base.BaseTest;
+import com.example.Domain.Catalog;
+import com.example.Fixtures.StoreFixture;
+import com.example.Models.Order;
+import com.example.Models.OrderListSnapshot;
 import com.example.Pages.OrdersPage;
 import com.example.Pages.PaymentPage;
 
 public class OrdersPageTest extends BaseTest {
 
     private static final String TEST_USER_ID = "orders-test-user";
-    private static final String BASE_URL = System.getProperty("base.url", "http://127.0.0.1:5501");
 
     private OrdersPage orders;
     private PaymentPage payment;
@@ -33,7 +35,7 @@ public class OrdersPageTest extends BaseTest {
     @Test
     public void verifyOrdersPageLoads() {
         orders.setLoggedInUser(TEST_USER_ID);
-        orders.openPath(BASE_URL, "/orders.html");
+        orders.openPath(baseUrl(), "/orders.html");
 
         Assert.assertEquals(orders.getPageTitleText(), "Purchase history");
     }
@@ -43,18 +45,20 @@ public class OrdersPageTest extends BaseTest {
         orders.setLoggedInUser(TEST_USER_ID);
         orders.clearOrdersForUser(TEST_USER_ID);
         orders.clearLastSuccessForUser(TEST_USER_ID);
-        orders.openPath(BASE_URL, "/orders.html");
+        orders.openPath(baseUrl(), "/orders.html");
+        OrderListSnapshot snapshot = orders.snapshot();
 
-        Assert.assertTrue(orders.isNoOrdersMessageDisplayed());
-        Assert.assertEquals(orders.getRenderedOrderCount(), 0);
+        Assert.assertTrue(snapshot.noOrdersVisible());
+        Assert.assertEquals(snapshot.orderCount(), 0);
     }
 
     @Test
     public void verifyOrdersListVisibleWhenOrdersExist() {
         ensureAtLeastOneOrder();
+        OrderListSnapshot snapshot = orders.snapshot();
 
-        Assert.assertFalse(orders.isNoOrdersMessageDisplayed());
-        Assert.assertTrue(orders.getRenderedOrderCount() > 0);
+        Assert.assertFalse(snapshot.noOrdersVisible());
+        Assert.assertTrue(snapshot.orderCount() > 0);
     }
 
     @Test
@@ -95,10 +99,11 @@ public class OrdersPageTest extends BaseTest {
     @Test
     public void verifySuccessBannerShownAfterPaymentRedirect() {
         completePurchaseFlow("neon-drift");
+        OrderListSnapshot snapshot = orders.snapshot();
 
         Assert.assertTrue(orders.getCurrentUrl().contains("/orders.html?success=1"));
-        Assert.assertTrue(orders.isSuccessBoxDisplayed());
-        Assert.assertTrue(orders.getSuccessMessageText().contains("Order GS-"));
+        Assert.assertTrue(snapshot.successVisible());
+        Assert.assertTrue(snapshot.successMessage().contains("Order GS-"));
     }
 
     @Test
@@ -129,13 +134,12 @@ public class OrdersPageTest extends BaseTest {
     @Test
     public void verifyAnotherPurchaseAddsAnotherRenderedOrder() {
         ensureAtLeastOneOrder();
-        orders.openPath(BASE_URL, "/orders.html");
+        orders.openPath(baseUrl(), "/orders.html");
         int before = orders.getRenderedOrderCount();
 
         completePurchaseFlow("iron-legion");
-        orders.openPath(BASE_URL, "/orders.html");
-        new WebDriverWait(driver, Duration.ofSeconds(5))
-                .until(d -> orders.getRenderedOrderCount() >= before + 1);
+        orders.openPath(baseUrl(), "/orders.html");
+        waits.until(Duration.ofSeconds(5), d -> orders.getRenderedOrderCount() >= before + 1);
 
         Assert.assertTrue(orders.getRenderedOrderCount() >= before + 1);
     }
@@ -143,27 +147,22 @@ public class OrdersPageTest extends BaseTest {
     private void ensureAtLeastOneOrder() {
         orders.setLoggedInUser(TEST_USER_ID);
         if (orders.getStoredOrdersCount(TEST_USER_ID) == 0) {
-            completePurchaseFlow("neon-drift");
+            StoreFixture.forUser(TEST_USER_ID)
+                    .withOrders(Order.of("SEEDED", Catalog.seeded().get("neon-drift").orderItem(1)))
+                    .apply(driver);
         }
-        orders.openPath(BASE_URL, "/orders.html");
-        new WebDriverWait(driver, Duration.ofSeconds(5))
-                .until(d -> orders.getRenderedOrderCount() > 0);
+        orders.openPath(baseUrl(), "/orders.html");
+        waits.until(Duration.ofSeconds(5), d -> orders.getRenderedOrderCount() > 0);
     }
 
     private void completePurchaseFlow(String gameId) {
-        payment.setLoggedInUser(TEST_USER_ID);
-        payment.clearCartForUser(TEST_USER_ID);
-        payment.openPath(BASE_URL, "/index.html");
-        payment.addGameToCartFromGamePage(BASE_URL, gameId);
-        payment.goToPaymentFromCart(BASE_URL);
-
-        new WebDriverWait(driver, Duration.ofSeconds(5))
-                .until(d -> payment.getCurrentUrl().contains("/payment.html"));
+        StoreFixture.forUser(TEST_USER_ID)
+                .withCartOf(gameId)
+                .openAt(driver, baseUrl(), "/payment.html");
 
         payment.fillValidPaymentDetails();
         payment.clickPayNow();
 
-        new WebDriverWait(driver, Duration.ofSeconds(8))
-                .until(d -> orders.getCurrentUrl().contains("/orders.html?success=1"));
+        waits.until(Duration.ofSeconds(8), d -> orders.getCurrentUrl().contains("/orders.html?success=1"));
     }
 }
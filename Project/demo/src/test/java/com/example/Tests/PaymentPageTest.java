@@ -2,18 +2,22 @@ package com.example.Tests;
 
 import java.time.Duration;
 
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import com.example.Base.BaseTest;
+import com.example.Base.NetworkPolicy;
+import com.example.Domain.CartTotals;
+import com.example.Fixtures.StoreFixture;
+import com.example.Models.PaymentDetails;
 import com.example.Pages.PaymentPage;
 
+// No test here looks at cover art.
+@NetworkPolicy(block = {NetworkPolicy.Asset.IMAGES, NetworkPolicy.Asset.FONTS})
 public class PaymentPageTest extends BaseTest {
 
     private static final String TEST_USER_ID = "payment-test-user";
-    private static final String BASE_URL = System.getProperty("base.url", "http://127.0.0.1:5501");
 
     private PaymentPage payment;
 
@@ -46,7 +50,8 @@ public class PaymentPageTest extends BaseTest {
     public void verifyOrderTotalForSingleItem() {
         openPaymentWithCartItems("neon-drift");
 
-        Assert.assertTrue(payment.getOrderTotalText().contains("19.99"));
+        String expected = CartTotals.ofGames("neon-drift").amountText();
+        Assert.assertTrue(payment.getOrderTotalText().contains(expected));
     }
 
     @Test
@@ -76,12 +81,10 @@ public class PaymentPageTest extends BaseTest {
     @Test
     public void verifyValidationForEmptyCardholderName() {
         openPaymentWithCartItems("neon-drift");
-        payment.fillValidPaymentDetails();
-        payment.enterCardholderName("");
+        payment.fill(PaymentDetails.valid().withCardholderName(""));
         payment.clickPayNow();
 
-        new WebDriverWait(driver, Duration.ofSeconds(5))
-                .until(d -> !payment.getPayMessage().trim().isEmpty());
+        waits.until(Duration.ofSeconds(5), d -> !payment.getPayMessage().trim().isEmpty());
 
         Assert.assertEquals(payment.getPayMessage(), "Please enter the cardholder name.");
     }
@@ -89,12 +92,10 @@ public class PaymentPageTest extends BaseTest {
     @Test
     public void verifyValidationForInvalidCardNumber() {
         openPaymentWithCartItems("neon-drift");
-        payment.fillValidPaymentDetails();
-        payment.enterCardNumber("123456789012");
+        payment.fill(PaymentDetails.valid().withCardNumber("123456789012"));
         payment.clickPayNow();
 
-        new WebDriverWait(driver, Duration.ofSeconds(5))
-                .until(d -> !payment.getPayMessage().trim().isEmpty());
+        waits.until(Duration.ofSeconds(5), d -> !payment.getPayMessage().trim().isEmpty());
 
         Assert.assertEquals(payment.getPayMessage(), "Please enter a valid card number.");
     }
@@ -102,12 +103,10 @@ public class PaymentPageTest extends BaseTest {
     @Test
     public void verifyValidationForInvalidExpiry() {
         openPaymentWithCartItems("neon-drift");
-        payment.fillValidPaymentDetails();
-        payment.enterExpiry("01/20");
+        payment.fill(PaymentDetails.valid().withExpiry("01/20"));
         payment.clickPayNow();
 
-        new WebDriverWait(driver, Duration.ofSeconds(5))
-                .until(d -> !payment.getPayMessage().trim().isEmpty());
+        waits.until(Duration.ofSeconds(5), d -> !payment.getPayMessage().trim().isEmpty());
 
         Assert.assertEquals(payment.getPayMessage(), "Please enter a valid expiry date (MM/YY).");
     }
@@ -115,12 +114,10 @@ public class PaymentPageTest extends BaseTest {
     @Test
     public void verifyValidationForInvalidCvv() {
         openPaymentWithCartItems("neon-drift");
-        payment.fillValidPaymentDetails();
-        payment.enterCvv("12");
+        payment.fill(PaymentDetails.valid().withCvv("12"));
         payment.clickPayNow();
 
-        new WebDriverWait(driver, Duration.ofSeconds(5))
-                .until(d -> !payment.getPayMessage().trim().isEmpty());
+        waits.until(Duration.ofSeconds(5), d -> !payment.getPayMessage().trim().isEmpty());
 
         Assert.assertTrue(payment.getPayMessage().contains("valid CVV"));
     }
@@ -128,17 +125,10 @@ public class PaymentPageTest extends BaseTest {
     @Test
     public void verifyValidationForMissingCountry() {
         openPaymentWithCartItems("neon-drift");
-        payment.enterCardholderName("Alex Gamer");
-        payment.enterCardNumber("4111111111111111");
-        payment.enterExpiry("12/30");
-        payment.enterCvv("123");
-        payment.enterBillingAddress("221B Baker Street");
-        payment.enterCity("Hyderabad");
-        payment.enterZip("500001");
+        payment.fill(PaymentDetails.valid().withCountry(""));
         payment.clickPayNow();
 
-        new WebDriverWait(driver, Duration.ofSeconds(5))
-                .until(d -> !payment.getPayMessage().trim().isEmpty());
+        waits.until(Duration.ofSeconds(5), d -> !payment.getPayMessage().trim().isEmpty());
 
         Assert.assertEquals(payment.getPayMessage(), "Please select your country.");
     }
@@ -149,8 +139,7 @@ public class PaymentPageTest extends BaseTest {
         payment.fillValidPaymentDetails();
         payment.clickPayNow();
 
-        new WebDriverWait(driver, Duration.ofSeconds(8))
-                .until(d -> payment.getCurrentUrl().contains("/orders.html?success=1"));
+        waits.until(Duration.ofSeconds(8), d -> payment.getCurrentUrl().contains("/orders.html?success=1"));
 
         Assert.assertTrue(payment.getCurrentUrl().contains("/orders.html?success=1"));
     }
@@ -166,31 +155,23 @@ public class PaymentPageTest extends BaseTest {
     public void verifyOrderTotalForMultipleItems() {
         openPaymentWithCartItems("neon-drift", "iron-legion");
 
-        Assert.assertTrue(payment.getOrderTotalText().contains("49.98"));
+        String expected = CartTotals.ofGames("neon-drift", "iron-legion").amountText();
+        Assert.assertTrue(payment.getOrderTotalText().contains(expected));
     }
 
     @Test
     public void verifyNoCartMessageWhenOpeningPaymentWithEmptyCart() {
         payment.setLoggedInUser(TEST_USER_ID);
         payment.clearCartForUser(TEST_USER_ID);
-        payment.openPath(BASE_URL, "/payment.html");
+        payment.openPath(baseUrl(), "/payment.html");
 
         Assert.assertTrue(payment.isNoCartMessageDisplayed());
         Assert.assertFalse(payment.isPaymentFormDisplayed());
     }
 
     private void openPaymentWithCartItems(String... gameIds) {
-        payment.setLoggedInUser(TEST_USER_ID);
-        payment.clearCartForUser(TEST_USER_ID);
-        payment.openPath(BASE_URL, "/index.html");
-
-        for (String gameId : gameIds) {
-            payment.addGameToCartFromGamePage(BASE_URL, gameId);
-        }
-
-        payment.goToPaymentFromCart(BASE_URL);
-
-        new WebDriverWait(driver, Duration.ofSeconds(5))
-                .until(d -> payment.getCurrentUrl().contains("/payment.html"));
+        StoreFixture.forUser(TEST_USER_ID)
+                .withCartOf(gameIds)
+                .openAt(driver, baseUrl(), "/payment.html");
     }
 }
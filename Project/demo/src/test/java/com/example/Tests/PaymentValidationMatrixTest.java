@@ -0,0 +1,269 @@
+package com.example.Tests;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import com.example.Base.BaseTest;
+import com.example.Base.DriverLifecycle;
+import com.example.Base.DriverManager;
+import com.example.Base.DriverPool;
+import com.example.Base.DriverSessions;
+import com.example.Fixtures.StoreFixture;
+import com.example.Models.PaymentDetails;
+import com.example.Pages.PaymentPage;
+
+/**
+ * Every validation rule of the payment form, one row per input, against pages that stay open.
+ *
+ * <p>Rows run in parallel. Under the pool, method and context lifecycles a session taken for a row becomes a worker:
+ * it opens {@code payment.html} with a seeded cart once and keeps it for later rows, which only reset the form by
+ * script. At most {@code -Dpayment.matrix.workers} workers are open, always at least one fewer than the driver pool,
+ * so other test classes can still borrow a session; rows wait for an idle worker. Workers go back to the lifecycle
+ * as soon as no row is left to run. Class and thread sessions are wiped on every acquire, so under those lifecycles
+ * each row opens the page itself. Inputs the form accepts are paired with a blank country, so the expected message
+ * is the country prompt and nothing is ever paid.
+ */
+public class PaymentValidationMatrixTest extends BaseTest {
+
+    private static final String TEST_USER_ID = "payment-matrix-user";
+    private static final boolean KEEP_PAGES_OPEN = EnumSet.of(DriverLifecycle.POOL, DriverLifecycle.METHOD,
+            DriverLifecycle.CONTEXT).contains(DriverSessions.lifecycle());
+    private static final int WORKER_CAP = Math.max(1, DriverPool.getInstance().size() - 1);
+    private static final int MAX_WORKERS = Math.min(WORKER_CAP, Integer.getInteger("payment.matrix.workers",
+            WORKER_CAP));
+    private static final long WORKER_WAIT_SECONDS = Long.getLong("driver.pool.borrow.timeout", 120);
+
+    private static final String NAME = "Please enter the cardholder name.";
+    private static final String CARD = "Please enter a valid card number.";
+    private static final String EXPIRY = "Please enter a valid expiry date (MM/YY).";
+    private static final String CVV = "Please enter a valid CVV (3–4 digits).";
+    private static final String BILLING = "Please enter your billing address.";
+    private static final String CITY = "Please enter your city.";
+    private static final String ZIP = "Please enter your ZIP / postal code.";
+    private static final String COUNTRY = "Please select your country.";
+
+    private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    // Workers whose payment page is open.
+    private final Set<WebDriver> ready = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger opened = new AtomicInteger();
+    // Rows that have not been handed a session yet.
+    private final AtomicInteger pendingRows = new AtomicInteger();
+
+    // Built on the thread-bound driver, and needed by openStartPage() before any subclass @BeforeMethod runs.
+    private final PaymentPage payment = new PaymentPage(driver);
+
+    @AfterClass(alwaysRun = true)
+    public void releaseWorkers() {
+        releaseIdleWorkers();
+    }
+
+    @Test(dataProvider = "paymentInputs")
+    public void verifyValidationMessage(String input, PaymentDetails details, String expectedMessage) {
+        payment.fill(details);
+        payment.clickPayNow();
+
+        waits.until(Duration.ofSeconds(5), d -> !payment.getPayMessage().trim().isEmpty());
+
+        Assert.assertEquals(payment.getPayMessage(), expectedMessage, input);
+    }
+
+    @DataProvider(name = "paymentInputs", parallel = true)
+    public Object[][] paymentInputs() {
+        List<Object[]> rows = new ArrayList<>();
+        PaymentDetails valid = PaymentDetails.valid();
+        PaymentDetails accepted = valid.withCountry("");
+
+        for (String name : new String[] {"", " ", "A", "  A  "}) {
+            rows.add(row("cardholder '" + name + "'", valid.withCardholderName(name), NAME));
+        }
+        for (String name : new String[] {"Al", "Zoë Ångström"}) {
+            rows.add(row("cardholder '" + name + "'", accepted.withCardholderName(name), COUNTRY));
+        }
+
+        // Luhn-valid numbers of every length around the 12-19 digit bounds.
+        for (int length = 11; length <= 19; length++) {
+            String number = luhnNumber(length);
+            boolean inRange = length >= 12;
+            rows.add(row("card " + length + " digits, Luhn ok", (inRange ? accepted : valid).withCardNumber(number),
+                    inRange ? COUNTRY : CARD));
+        }
+        for (int length : new int[] {12, 16, 19}) {
+            rows.add(row("card " + length + " digits, Luhn fails", valid.withCardNumber(breakLuhn(luhnNumber(length))),
+                    CARD));
+        }
+        // The field stops at 19 digits, so a 20th digit typed after a valid number is dropped.
+        rows.add(row("card 20 digits, first 19 Luhn ok", accepted.withCardNumber(luhnNumber(19) + "7"), COUNTRY));
+        rows.add(row("card with dashes", accepted.withCardNumber("4111-1111-1111-1111"), COUNTRY));
+        rows.add(row("card with letters", valid.withCardNumber("4111abcd11111111"), CARD));
+        rows.add(row("card all zeros", accepted.withCardNumber("000000000000"), COUNTRY));
+        rows.add(row("card empty", valid.withCardNumber(""), CARD));
+
+        YearMonth now = YearMonth.now();
+        rows.add(row("expiry this month", accepted.withExpiry(mmYY(now)), COUNTRY));
+        rows.add(row("expiry in 2099", accepted.withExpiry("12/99"), COUNTRY));
+        rows.add(row("expiry typed as digits", accepted.withExpiry("1230"), COUNTRY));
+        rows.add(row("expiry last month", valid.withExpiry(mmYY(now.minusMonths(1))), EXPIRY));
+        for (String expiry : new String[] {"", "13/30", "00/30", "1/30", "12/3", "ab/cd"}) {
+            rows.add(row("expiry '" + expiry + "'", valid.withExpiry(expiry), EXPIRY));
+        }
+
+        for (String cvv : new String[] {"123", "1234", "12345"}) {
+            rows.add(row("cvv '" + cvv + "'", accepted.withCvv(cvv), COUNTRY));
+        }
+        for (String cvv : new String[] {"", "1", "12", "12a", "abc"}) {
+            rows.add(row("cvv '" + cvv + "'", valid.withCvv(cvv), CVV));
+        }
+
+        for (String billing : new String[] {"", "1234", "    x   "}) {
+            rows.add(row("billing '" + billing + "'", valid.withBillingAddress(billing), BILLING));
+        }
+        rows.add(row("billing '12345'", accepted.withBillingAddress("12345"), COUNTRY));
+
+        for (String city : new String[] {"", "A", "  A  "}) {
+            rows.add(row("city '" + city + "'", valid.withCity(city), CITY));
+        }
+        rows.add(row("city 'Jo'", accepted.withCity("Jo"), COUNTRY));
+
+        for (String zip : new String[] {"", "12", "  1  "}) {
+            rows.add(row("zip '" + zip + "'", valid.withZip(zip), ZIP));
+        }
+        for (String zip : new String[] {"123", "SW1A 1AA"}) {
+            rows.add(row("zip '" + zip + "'", accepted.withZip(zip), COUNTRY));
+        }
+
+        rows.add(row("country not selected", valid.withCountry(""), COUNTRY));
+        // The first failing rule wins.
+        rows.add(row("everything empty", new PaymentDetails("", "", "", "", "", "", "", ""), NAME));
+        pendingRows.set(rows.size());
+        return rows.toArray(new Object[0][]);
+    }
+
+    @Override
+    protected WebDriver acquireSession(Method testMethod) {
+        if (!KEEP_PAGES_OPEN) {
+            return super.acquireSession(testMethod);
+        }
+        WebDriver session = idle.poll();
+        if (session == null && opened.getAndUpdate(n -> n < MAX_WORKERS ? n + 1 : n) < MAX_WORKERS) {
+            try {
+                session = super.acquireSession(testMethod);
+            } catch (RuntimeException e) {
+                opened.decrementAndGet();
+                throw e;
+            }
+        } else if (session == null) {
+            session = awaitIdleWorker();
+        }
+        if (pendingRows.decrementAndGet() <= 0) {
+            releaseIdleWorkers();
+        }
+        return session;
+    }
+
+    @Override
+    protected void openStartPage() {
+        WebDriver session = DriverManager.getSession();
+        if (ready.contains(session)) {
+            payment.resetForm();
+            return;
+        }
+        driver.get(baseUrl() + "/index.html");
+        StoreFixture.forUser(TEST_USER_ID)
+                .withCartOf("neon-drift")
+                .openAt(driver, baseUrl(), "/payment.html");
+        Assert.assertTrue(payment.isPaymentFormDisplayed(), "Payment form did not render");
+        if (KEEP_PAGES_OPEN) {
+            ready.add(session);
+        }
+    }
+
+    // Ready workers wait for the next row while rows remain; anything else goes back to the lifecycle.
+    @Override
+    protected void releaseSession(WebDriver session) {
+        if (!KEEP_PAGES_OPEN) {
+            super.releaseSession(session);
+        } else if (ready.contains(session) && pendingRows.get() > 0) {
+            idle.offer(session);
+            // The last row may have been handed out while this worker was on its way back.
+            if (pendingRows.get() <= 0) {
+                releaseIdleWorkers();
+            }
+        } else {
+            retire(session);
+        }
+    }
+
+    private WebDriver awaitIdleWorker() {
+        try {
+            WebDriver session = idle.poll(WORKER_WAIT_SECONDS, TimeUnit.SECONDS);
+            if (session == null) {
+                throw new IllegalStateException("No payment page freed up within " + WORKER_WAIT_SECONDS + "s");
+            }
+            return session;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a payment page", e);
+        }
+    }
+
+    private void releaseIdleWorkers() {
+        WebDriver session;
+        while ((session = idle.poll()) != null) {
+            retire(session);
+        }
+    }
+
+    private void retire(WebDriver session) {
+        ready.remove(session);
+        opened.decrementAndGet();
+        super.releaseSession(session);
+    }
+
+    private static Object[] row(String input, PaymentDetails details, String expectedMessage) {
+        return new Object[] {input, details, expectedMessage};
+    }
+
+    private static String mmYY(YearMonth month) {
+        return String.format("%02d/%02d", month.getMonthValue(), month.getYear() % 100);
+    }
+
+    // "4111…" padded to the length with a correct check digit.
+    private static String luhnNumber(int length) {
+        StringBuilder digits = new StringBuilder("4");
+        while (digits.length() < length - 1) {
+            digits.append('1');
+        }
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = digits.length() - 1; i >= 0; i--) {
+            int n = digits.charAt(i) - '0';
+            if (doubled) {
+                n = n * 2 > 9 ? n * 2 - 9 : n * 2;
+            }
+            sum += n;
+            doubled = !doubled;
+        }
+        return digits.append((10 - sum % 10) % 10).toString();
+    }
+
+    private static String breakLuhn(String number) {
+        char last = number.charAt(number.length() - 1);
+        return number.substring(0, number.length() - 1) + (char) ('0' + (last - '0' + 1) % 10);
+    }
+}